@@ -0,0 +1,139 @@
+import org.example.eduni.distributions.Bernoulli;
+import org.example.eduni.distributions.BufferedGenerator;
+import org.example.eduni.distributions.Cauchy;
+import org.example.eduni.distributions.ContinuousGenerator;
+import org.example.eduni.distributions.Gamma;
+import org.example.eduni.distributions.Generator;
+import org.example.eduni.distributions.LogNormal;
+import org.example.eduni.distributions.Logistic;
+import org.example.eduni.distributions.Negexp;
+import org.example.eduni.distributions.Normal;
+import org.example.eduni.distributions.ParameterException;
+import org.example.eduni.distributions.Pareto;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.eduni.distributions.Uniform;
+import org.example.eduni.distributions.Weibull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkSamplingTest {
+    private static final int COUNT = 1000;
+
+    /** Creates the same generator twice from one seed, so a bulk and a scalar copy can be compared */
+    private static ContinuousGenerator[] pair(Function<ContinuousGenerator, Generator> create,
+                                              RandomSource source, SamplingMethod method) {
+        ContinuousGenerator[] pair = new ContinuousGenerator[2];
+        for (int i = 0; i < 2; i++) {
+            Generator generator = create.apply(source.create(4851L));
+            generator.setSamplingMethod(method);
+            pair[i] = (ContinuousGenerator) generator;
+        }
+        return pair;
+    }
+
+    private static void assertBulkMatchesScalar(ContinuousGenerator bulk, ContinuousGenerator scalar, String name) {
+        double[] out = new double[COUNT + 2];
+        // odd sizes, so blocks do not line up with the pairs of uniforms a sample may take
+        bulk.sample(out, 1, 333);
+        bulk.sample(out, 334, COUNT - 333);
+        assertEquals(0.0, out[0]);
+        assertEquals(0.0, out[COUNT + 1]);
+        for (int i = 1; i <= COUNT; i++) {
+            assertFalse(Double.isNaN(out[i]), name + " sample " + i + " is NaN");
+            assertEquals(scalar.sample(), out[i], name + " sample " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Bulk sampling gives the numbers of repeated scalar calls")
+    void testBulkMatchesScalar() {
+        List<Function<ContinuousGenerator, Generator>> generators = List.of(
+                s -> new Negexp(5, s),
+                s -> new Normal(10, 4, s),
+                s -> new LogNormal(1, 0.5, s),
+                s -> new Uniform(2, 7, s),
+                s -> new Cauchy(0, 1, s),
+                s -> new Logistic(0, 1, s),
+                s -> new Pareto(1, 3, s),
+                // the legacy weibull is NaN unless 1/shape is an integer
+                s -> new Weibull(2, 0.5, s),
+                s -> new Gamma(2, 3.5, s)
+        );
+        for (RandomSource source : RandomSource.values()) {
+            for (SamplingMethod method : SamplingMethod.values()) {
+                for (Function<ContinuousGenerator, Generator> create : generators) {
+                    ContinuousGenerator[] pair = pair(create, source, method);
+                    assertBulkMatchesScalar(pair[0], pair[1], pair[0].getClass().getSimpleName() + " " + source + " " + method);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Uniform sources fill blocks with their scalar sequence")
+    void testSourceBulkMatchesScalar() {
+        for (RandomSource source : RandomSource.values()) {
+            assertBulkMatchesScalar(source.create(7), source.create(7), source.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Discrete bulk sampling gives the numbers of repeated scalar calls")
+    void testDiscreteBulkMatchesScalar() {
+        Bernoulli bulk = new Bernoulli(0.3, 99L);
+        Bernoulli scalar = new Bernoulli(0.3, 99L);
+        long[] out = new long[COUNT];
+        bulk.sample(out, 0, COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(scalar.sample(), out[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("A buffered generator returns the sequence of the generator it wraps")
+    void testBufferedMatchesWrapped() {
+        for (SamplingMethod method : SamplingMethod.values()) {
+            Normal wrapped = new Normal(10, 4, 4851L);
+            Normal reference = new Normal(10, 4, 4851L);
+            wrapped.setSamplingMethod(method);
+            reference.setSamplingMethod(method);
+            BufferedGenerator buffered = new BufferedGenerator(wrapped, 64);
+            double[] out = new double[100];
+            for (int round = 0; round < 20; round++) {
+                // mix scalar and bulk reads across block boundaries
+                for (int i = 0; i < 37; i++) {
+                    assertEquals(reference.sample(), buffered.sample());
+                }
+                buffered.sample(out, 0, out.length);
+                for (double value : out) {
+                    assertEquals(reference.sample(), value);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Seeding a buffered generator discards the buffered samples")
+    void testBufferedSeed() {
+        BufferedGenerator buffered = new BufferedGenerator(new Negexp(5, 1L));
+        buffered.sample();
+        buffered.setSeed(4851L);
+        Negexp reference = new Negexp(5, 4851L);
+        assertEquals(4851L, buffered.getSeed());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(reference.sample(), buffered.sample());
+        }
+    }
+
+    @Test
+    @DisplayName("A buffered generator needs a positive block size")
+    void testBufferedBlockSize() {
+        assertThrows(ParameterException.class, () -> new BufferedGenerator(new Negexp(5, 1L), 0));
+    }
+}
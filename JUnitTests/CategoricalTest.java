@@ -0,0 +1,57 @@
+import org.example.eduni.distributions.Categorical;
+import org.example.eduni.distributions.ParameterException;
+import org.example.eduni.distributions.RandomSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoricalTest {
+
+    @Test
+    @DisplayName("Categories are drawn in proportion to their weights")
+    void testFrequencies() {
+        double[] weights = {1, 0, 3, 0.5, 5.5};
+        Categorical categorical = new Categorical(weights, RandomSource.XOSHIRO256.create(5));
+        int n = 1_000_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < n; i++) {
+            counts[(int) categorical.sample()]++;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            double p = weights[i] / 10;
+            assertEquals(p * n, counts[i], 5 * Math.sqrt(n * p * (1 - p)) + 1e-9, "category " + i);
+        }
+        assertEquals(0, counts[1]);
+    }
+
+    @Test
+    @DisplayName("A single category is always drawn, also from the legacy generator")
+    void testSingleCategory() {
+        Categorical categorical = new Categorical(new double[] {2.5}, 4851L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, categorical.sample());
+        }
+        assertEquals(1, categorical.size());
+    }
+
+    @Test
+    @DisplayName("Equal seeds give equal sequences")
+    void testReproducible() {
+        double[] weights = {0.9, 0.1};
+        Categorical a = new Categorical(weights, 17L);
+        Categorical b = new Categorical(weights, 17L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(a.sample(), b.sample());
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid weights are rejected")
+    void testInvalidWeights() {
+        assertThrows(ParameterException.class, () -> new Categorical(new double[0], 1L));
+        assertThrows(ParameterException.class, () -> new Categorical(new double[] {0, 0}, 1L));
+        assertThrows(ParameterException.class, () -> new Categorical(new double[] {1, -1}, 1L));
+        assertThrows(ParameterException.class, () -> new Categorical(new double[] {1, Double.NaN}, 1L));
+    }
+}
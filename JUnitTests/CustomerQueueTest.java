@@ -0,0 +1,63 @@
+import org.example.framework.Trace;
+import org.example.model.Customer;
+import org.example.model.CustomerQueue;
+import org.example.model.CustomerType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerQueueTest {
+
+    @BeforeEach
+    void setup() {
+        Trace.setTraceLevel(Trace.Level.INFO);
+    }
+
+    @Test
+    @DisplayName("Queue keeps FIFO order while wrapping around and growing")
+    void testFifoAcrossGrowth() {
+        CustomerQueue queue = new CustomerQueue(4);
+        ArrayDeque<Customer> expected = new ArrayDeque<>();
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 3; i++) {
+                Customer customer = new Customer(CustomerType.TRANSACTION_CLIENT);
+                queue.add(customer);
+                expected.add(customer);
+            }
+            assertSame(expected.poll(), queue.poll());
+            assertSame(expected.peek(), queue.peek());
+            assertEquals(expected.size(), queue.size());
+        }
+        while (!expected.isEmpty()) {
+            assertSame(expected.poll(), queue.poll());
+        }
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    @DisplayName("Copying into a buffer preserves order and reports the full length")
+    void testCopyTo() {
+        CustomerQueue queue = new CustomerQueue(4);
+        Customer[] customers = new Customer[6];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new Customer(CustomerType.ACCOUNT_CLIENT);
+        }
+        queue.add(customers[0]);
+        queue.add(customers[1]);
+        queue.poll();
+        queue.poll();
+        for (int i = 2; i < customers.length; i++) {
+            queue.add(customers[i]);
+        }
+
+        Customer[] buffer = new Customer[3];
+        assertEquals(4, queue.copyTo(buffer));
+        assertArrayEquals(new Customer[] {customers[2], customers[3], customers[4]}, buffer);
+        assertSame(customers[5], queue.get(3));
+    }
+}
@@ -0,0 +1,103 @@
+import org.example.framework.ArrayHeapEventList;
+import org.example.framework.CalendarEventList;
+import org.example.framework.Event;
+import org.example.framework.EventList;
+import org.example.framework.Trace;
+import org.example.model.EventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventListTest {
+
+    @BeforeEach
+    void setup() {
+        Trace.setTraceLevel(Trace.Level.INFO);
+    }
+
+    @Test
+    @DisplayName("Array heap returns events in time order")
+    void testArrayHeapOrdering() {
+        EventList list = new ArrayHeapEventList(4);
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            list.add(new Event(EventType.ARR_AUTOMAT, random.nextDouble() * 100));
+        }
+        double previous = -1;
+        while (list.size() > 0) {
+            double time = list.remove().getTime();
+            assertTrue(time >= previous);
+            previous = time;
+        }
+    }
+
+    @Test
+    @DisplayName("Array heap keeps FIFO order for equal times")
+    void testArrayHeapFifoTies() {
+        EventList list = new ArrayHeapEventList();
+        list.add(new Event(EventType.DEP_AUTOMAT, 5.0));
+        list.add(new Event(EventType.ARR_AUTOMAT, 5.0));
+        list.add(new Event(EventType.DEP_TELLER, 5.0));
+        list.add(new Event(EventType.ARR_TELLER, 1.0));
+
+        assertEquals(1.0, list.getNextEventTime());
+        assertEquals(EventType.ARR_TELLER, list.remove().getType());
+        assertEquals(EventType.DEP_AUTOMAT, list.remove().getType());
+        assertEquals(EventType.ARR_AUTOMAT, list.remove().getType());
+        assertEquals(EventType.DEP_TELLER, list.remove().getType());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    @DisplayName("Calendar queue matches the heap through growth and shrinking")
+    void testCalendarQueueMatchesHeap() {
+        EventList calendar = new CalendarEventList();
+        EventList heap = new ArrayHeapEventList();
+        Random random = new Random(7);
+        double now = 0;
+        for (int i = 0; i < 100000; i++) {
+            boolean grow = i < 50000 ? random.nextInt(4) != 0 : random.nextInt(4) == 0;
+            if (heap.size() == 0 || grow) {
+                double time = now - Math.log(1.0 - random.nextDouble());
+                calendar.add(new Event(EventType.ARR_AUTOMAT, time));
+                heap.add(new Event(EventType.ARR_AUTOMAT, time));
+            } else {
+                now = heap.remove().getTime();
+                assertEquals(now, calendar.remove().getTime());
+            }
+        }
+        assertEquals(heap.size(), calendar.size());
+    }
+
+    @Test
+    @DisplayName("Calendar queue keeps FIFO order for equal times")
+    void testCalendarQueueFifoTies() {
+        EventList list = new CalendarEventList();
+        list.add(new Event(EventType.DEP_AUTOMAT, 5.0));
+        list.add(new Event(EventType.ARR_AUTOMAT, 5.0));
+        list.add(new Event(EventType.ARR_TELLER, 1.0));
+
+        assertEquals(EventType.ARR_TELLER, list.remove().getType());
+        assertEquals(EventType.DEP_AUTOMAT, list.remove().getType());
+        assertEquals(EventType.ARR_AUTOMAT, list.remove().getType());
+    }
+
+    @Test
+    @DisplayName("Every implementation reports itself and rejects reading the next event time of an empty list")
+    void testEmptyNextEventTime() {
+        for (EventList.Implementation implementation : EventList.Implementation.values()) {
+            EventList list = EventList.create(implementation);
+            assertEquals(implementation, list.getImplementation());
+            assertThrows(NoSuchElementException.class, list::getNextEventTime, implementation.toString());
+            list.add(new Event(EventType.ARR_AUTOMAT, 2.0));
+            assertEquals(2.0, list.getNextEventTime());
+            list.remove();
+            assertThrows(NoSuchElementException.class, list::getNextEventTime, implementation.toString());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+import org.example.eduni.distributions.Binomial;
+import org.example.eduni.distributions.ChiSquare;
+import org.example.eduni.distributions.ContinuousGenerator;
+import org.example.eduni.distributions.Erlang;
+import org.example.eduni.distributions.Gamma;
+import org.example.eduni.distributions.Generator;
+import org.example.eduni.distributions.Pascal;
+import org.example.eduni.distributions.Poisson;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the mean and variance of the constant-time samplers selected by
+ * {@link SamplingMethod#FAST}, on both sides of their parameter thresholds,
+ * and the distribution of the PTRS and BTPE samples against the exact pmf.
+ */
+class FastSamplingTest {
+    private static final int N = 200_000;
+    /** The first samples of Poisson(30) for seed 4851, recorded before FAST was added */
+    private static final long[] LEGACY_POISSON_BASELINE = {30, 37, 21, 31, 28, 29, 36, 28, 32, 22};
+    private long seed = 100;
+
+    @Test
+    @DisplayName("Poisson by inversion and by PTRS")
+    void testPoisson() {
+        for (double mean : new double[] {0.5, 5, 10, 50, 1e5}) {
+            Poisson poisson = fast(new Poisson(mean, nextSource()));
+            assertMoments(poisson::sample, mean, mean, "Poisson " + mean);
+        }
+    }
+
+    @Test
+    @DisplayName("Binomial by inversion and by BTPE, for small and large probabilities")
+    void testBinomial() {
+        double[][] cases = {{0.3, 20}, {0.3, 1000}, {0.9, 1000}, {0.01, 100000}, {1.0, 7}};
+        for (double[] c : cases) {
+            double p = c[0];
+            int n = (int) c[1];
+            Binomial binomial = fast(new Binomial(p, n, nextSource()));
+            assertMoments(binomial::sample, n * p, n * p * (1 - p), "Binomial " + p + ", " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("PTRS Poisson samples pass a chi-square test against the pmf")
+    void testPoissonGoodnessOfFit() {
+        for (double mean : new double[] {10, 30, 1000}) {
+            double[] logFactorial = logFactorials((int) (mean + 20 * Math.sqrt(mean) + 20));
+            Poisson poisson = fast(new Poisson(mean, nextSource()));
+            assertChiSquare(poisson::sample, k -> k < logFactorial.length
+                            ? -mean + k * Math.log(mean) - logFactorial[k] : Double.NEGATIVE_INFINITY,
+                    (int) mean, "Poisson " + mean);
+        }
+    }
+
+    @Test
+    @DisplayName("BTPE binomial samples pass a chi-square test against the pmf")
+    void testBinomialGoodnessOfFit() {
+        double[][] cases = {{0.3, 1000}, {0.9, 1000}, {0.01, 100000}};
+        for (double[] c : cases) {
+            double p = c[0];
+            int n = (int) c[1];
+            double[] logFactorial = logFactorials(n);
+            Binomial binomial = fast(new Binomial(p, n, nextSource()));
+            assertChiSquare(binomial::sample, k -> k <= n
+                            ? logFactorial[n] - logFactorial[k] - logFactorial[n - k] + k * Math.log(p) + (n - k) * Math.log1p(-p)
+                            : Double.NEGATIVE_INFINITY,
+                    (int) (n * p), "Binomial " + p + ", " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Gamma, Erlang and chi-square by Marsaglia and Tsang")
+    void testGammaFamily() {
+        for (double shape : new double[] {0.3, 1, 3, 4.5, 50, 1000}) {
+            Gamma gamma = fast(new Gamma(2, shape, nextSource()));
+            assertMoments(gamma::sample, 2 * shape, 4 * shape, "Gamma " + shape);
+        }
+        Erlang erlang = fast(new Erlang(50, 0.5, nextSource()));
+        assertMoments(erlang::sample, 25, 12.5, "Erlang");
+        for (long k : new long[] {1, 2, 7, 100}) {
+            ChiSquare chiSquare = fast(new ChiSquare(k, nextSource()));
+            assertMoments(chiSquare::sample, k, 2 * k, "ChiSquare " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("Pascal as a Poisson-gamma mixture")
+    void testPascal() {
+        Pascal pascal = fast(new Pascal(0.3, 50, nextSource()));
+        assertMoments(pascal::sample, 50 / 0.3, 50 * 0.7 / 0.09, "Pascal");
+    }
+
+    @Test
+    @DisplayName("Without FAST the legacy algorithms are used")
+    void testLegacyUnchanged() {
+        Poisson legacy = new Poisson(30, 4851L);
+        Poisson reference = new Poisson(30, 4851L);
+        reference.setSamplingMethod(SamplingMethod.LEGACY);
+        for (int i = 0; i < 1000; i++) {
+            long value = legacy.sample();
+            assertEquals(reference.sample(), value);
+            if (i < LEGACY_POISSON_BASELINE.length) {
+                assertEquals(LEGACY_POISSON_BASELINE[i], value);
+            }
+        }
+    }
+
+    private ContinuousGenerator nextSource() {
+        return RandomSource.XOSHIRO256.create(seed++);
+    }
+
+    private static <G extends Generator> G fast(G generator) {
+        generator.setSamplingMethod(SamplingMethod.FAST);
+        return generator;
+    }
+
+    /** Asserts that the sample mean and variance are within 5 standard errors of the exact values */
+    private static void assertMoments(DoubleSupplier sampler, double mean, double variance, String name) {
+        double sum = 0, sumSquares = 0;
+        for (int i = 0; i < N; i++) {
+            double x = sampler.getAsDouble();
+            sum += x;
+            sumSquares += x * x;
+        }
+        double sampleMean = sum / N;
+        double sampleVariance = sumSquares / N - sampleMean * sampleMean;
+        assertEquals(mean, sampleMean, 5 * Math.sqrt(variance / N) + 1e-9, name + " mean");
+        assertEquals(variance, sampleVariance, 0.03 * variance + 1e-9, name + " variance");
+    }
+
+    /** @return log(k!) for k from 0 to n */
+    private static double[] logFactorials(int n) {
+        double[] logFactorial = new double[n + 1];
+        for (int k = 2; k <= n; k++) {
+            logFactorial[k] = logFactorial[k - 1] + Math.log(k);
+        }
+        return logFactorial;
+    }
+
+    /**
+     * Asserts that the sample passes a chi-square goodness-of-fit test at the 0.1% level.
+     * Every value with an expected count of at least 5 has its own cell; the tails below
+     * and above them are pooled into one cell each.
+     */
+    private static void assertChiSquare(DoubleSupplier sampler, IntToDoubleFunction logPmf, int mode, String name) {
+        int lo = mode, hi = mode;
+        while (lo > 0 && N * Math.exp(logPmf.applyAsDouble(lo - 1)) >= 5) {
+            lo--;
+        }
+        while (N * Math.exp(logPmf.applyAsDouble(hi + 1)) >= 5) {
+            hi++;
+        }
+        // cell 0 holds k <= lo, cell hi - lo holds k >= hi
+        int cells = hi - lo + 1;
+        double[] expected = new double[cells];
+        for (int k = lo; k >= 0; k--) {
+            double p = Math.exp(logPmf.applyAsDouble(k));
+            expected[0] += p;
+            if (p < 1e-16 * expected[0]) {
+                break;
+            }
+        }
+        double inner = expected[0];
+        for (int k = lo + 1; k < hi; k++) {
+            expected[k - lo] = Math.exp(logPmf.applyAsDouble(k));
+            inner += expected[k - lo];
+        }
+        expected[cells - 1] = 1 - inner;
+
+        long[] observed = new long[cells];
+        for (int i = 0; i < N; i++) {
+            long k = (long) sampler.getAsDouble();
+            observed[(int) Math.max(0, Math.min(cells - 1, k - lo))]++;
+        }
+        double statistic = 0;
+        for (int i = 0; i < cells; i++) {
+            double e = N * expected[i];
+            statistic += (observed[i] - e) * (observed[i] - e) / e;
+        }
+        // Wilson-Hilferty approximation of the 99.9% quantile of chi-square with cells - 1 degrees of freedom
+        int df = cells - 1;
+        double h = 2.0 / (9 * df);
+        double critical = df * Math.pow(1 - h + 3.0902 * Math.sqrt(h), 3);
+        assertTrue(statistic < critical, name + ": chi-square " + statistic + " with " + df
+                + " degrees of freedom, critical value " + critical);
+    }
+}
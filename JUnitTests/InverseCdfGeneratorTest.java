@@ -0,0 +1,177 @@
+import org.example.eduni.distributions.InverseCdfGenerator;
+import org.example.eduni.distributions.InverseCdfGenerator.Interpolation;
+import org.example.eduni.distributions.LogNormal;
+import org.example.eduni.distributions.Normal;
+import org.example.eduni.distributions.ParameterException;
+import org.example.eduni.distributions.Pareto;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.eduni.distributions.Weibull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InverseCdfGeneratorTest {
+    private static final double TOLERANCE = 1e-6;
+
+    @Test
+    @DisplayName("Quantile methods match known values")
+    void testQuantiles() {
+        Normal normal = new Normal(0, 1, 1L);
+        assertEquals(0.0, normal.quantile(0.5));
+        assertEquals(1.959963984540054, normal.quantile(0.975), 1e-15);
+        assertEquals(-3.090232306167813, normal.quantile(0.001), 1e-14);
+        assertEquals(-6.361340902404056, normal.quantile(1e-10), 1e-13);
+        assertEquals(Math.exp(1 + Math.sqrt(0.5) * 1.959963984540054), new LogNormal(1, 0.5, 1L).quantile(0.975), 1e-12);
+        // the median of Weibull(2, 1.5) is 2 * ln(2)^(1/1.5)
+        assertEquals(2 * Math.pow(Math.log(2), 1 / 1.5), new Weibull(2, 1.5, 1L).quantile(0.5), 1e-14);
+        // the median of Pareto(1, 3) is 2^(1/3)
+        assertEquals(Math.cbrt(2), new Pareto(1, 3, 1L).quantile(0.5), 1e-14);
+    }
+
+    @Test
+    @DisplayName("The table stays within the tolerance of the quantile function")
+    void testErrorBound() {
+        List<DoubleUnaryOperator> quantiles = List.of(
+                new LogNormal(1, 0.5, 1L)::quantile,
+                new Weibull(2, 1.5, 1L)::quantile,
+                new Pareto(1, 3, 1L)::quantile);
+        for (DoubleUnaryOperator quantile : quantiles) {
+            for (Interpolation interpolation : Interpolation.values()) {
+                InverseCdfGenerator generator = new InverseCdfGenerator(quantile, 1024, interpolation, TOLERANCE, 1L);
+                assertTrue(generator.getMaxError() <= TOLERANCE);
+                double worst = 0;
+                for (int i = 1; i < 200_000; i++) {
+                    double p = i / 200_000.0;
+                    worst = Math.max(worst, Math.abs(generator.quantile(p) - quantile.applyAsDouble(p)));
+                }
+                // the error is checked at eighths of the cells, so allow for a little more between them
+                assertTrue(worst <= 1.1 * TOLERANCE, interpolation + " error " + worst);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cubic tables of smooth quantile functions are interpolated almost everywhere")
+    void testExactFraction() {
+        InverseCdfGenerator cubic = new InverseCdfGenerator(new LogNormal(1, 0.5, 1L)::quantile,
+                InverseCdfGenerator.DEFAULT_TABLE_SIZE, Interpolation.MONOTONE_CUBIC, TOLERANCE, 1L);
+        InverseCdfGenerator linear = new InverseCdfGenerator(new LogNormal(1, 0.5, 1L)::quantile,
+                InverseCdfGenerator.DEFAULT_TABLE_SIZE, Interpolation.LINEAR, TOLERANCE, 1L);
+        assertTrue(cubic.getExactFraction() < 0.05, "exact fraction " + cubic.getExactFraction());
+        assertTrue(cubic.getExactFraction() < linear.getExactFraction());
+        assertTrue(cubic.getExactFraction() >= 2.0 / cubic.getTableSize());
+    }
+
+    @Test
+    @DisplayName("Samples follow the tabulated distribution")
+    void testSampleDistribution() {
+        Pareto pareto = new Pareto(1, 3, 1L);
+        InverseCdfGenerator generator = new InverseCdfGenerator(pareto::quantile, 1024,
+                Interpolation.MONOTONE_CUBIC, TOLERANCE, RandomSource.XOSHIRO256.create(4851L));
+        int n = 200_000;
+        int below = 0;
+        double sum = 0;
+        double median = pareto.quantile(0.5);
+        for (int i = 0; i < n; i++) {
+            double x = generator.sample();
+            assertTrue(x >= 1.0, "sample below the scale: " + x);
+            sum += x;
+            if (x < median) {
+                below++;
+            }
+        }
+        // the mean of Pareto(1, 3) is 3/2; its standard deviation is sqrt(3)/2
+        assertEquals(1.5, sum / n, 5 * Math.sqrt(0.75 / n));
+        assertEquals(0.5, below / (double) n, 5 * Math.sqrt(0.25 / n));
+    }
+
+    /** @return The fraction of n samples below the given value */
+    private static double fractionBelow(DoubleSupplier sampler, double value, int n) {
+        int below = 0;
+        for (int i = 0; i < n; i++) {
+            if (sampler.getAsDouble() < value) {
+                below++;
+            }
+        }
+        return below / (double) n;
+    }
+
+    @Test
+    @DisplayName("Quantile methods follow the textbook parameters, which legacy Pareto and Weibull samples do not")
+    void testQuantileMatchesFastSamples() {
+        int n = 200_000;
+        double tolerance = 5 * Math.sqrt(0.25 / n);
+        Pareto legacyPareto = new Pareto(1, 3, 1L);
+        Pareto fastPareto = new Pareto(1, 3, 1L);
+        fastPareto.setSamplingMethod(SamplingMethod.FAST);
+        // legacy Pareto(1, 3) draws 3/u, the textbook Pareto(3, 1), which never falls below 3
+        assertEquals(0.0, fractionBelow(legacyPareto::sample, legacyPareto.quantile(0.5), n));
+        assertEquals(0.5, fractionBelow(legacyPareto::sample, new Pareto(3, 1, 1L).quantile(0.5), n), tolerance);
+        assertEquals(0.5, fractionBelow(fastPareto::sample, fastPareto.quantile(0.5), n), tolerance);
+
+        Weibull legacyWeibull = new Weibull(2, 1.5, 1L);
+        Weibull fastWeibull = new Weibull(2, 1.5, 1L);
+        fastWeibull.setSamplingMethod(SamplingMethod.FAST);
+        assertTrue(Double.isNaN(legacyWeibull.sample()));
+        assertEquals(0.5, fractionBelow(fastWeibull::sample, fastWeibull.quantile(0.5), n), tolerance);
+        // with 1/shape an integer the legacy formula is finite and exact
+        Weibull legacyWeibullHalf = new Weibull(2, 0.5, 1L);
+        assertEquals(0.5, fractionBelow(legacyWeibullHalf::sample, legacyWeibullHalf.quantile(0.5), n), tolerance);
+    }
+
+    @Test
+    @DisplayName("An empirical table is monotone and spans the sample")
+    void testEmpirical() {
+        double[] sample = {3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5};
+        DoubleUnaryOperator quantile = InverseCdfGenerator.empirical(sample);
+        assertEquals(1.0, quantile.applyAsDouble(0.0));
+        assertEquals(4.0, quantile.applyAsDouble(0.5));
+        assertEquals(9.0, quantile.applyAsDouble(1.0));
+        for (Interpolation interpolation : Interpolation.values()) {
+            InverseCdfGenerator generator = new InverseCdfGenerator(quantile, 64, interpolation, 0.01, 7L);
+            double previous = generator.quantile(0.0);
+            for (int i = 1; i <= 10_000; i++) {
+                double x = generator.quantile(i / 10_000.0);
+                assertTrue(x >= previous, interpolation + " decreases at " + i);
+                previous = x;
+            }
+            for (int i = 0; i < 1000; i++) {
+                double x = generator.sample();
+                assertTrue(x >= 1.0 && x <= 9.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Bulk sampling gives the numbers of repeated scalar calls")
+    void testBulkMatchesScalar() {
+        InverseCdfGenerator bulk = new InverseCdfGenerator(new LogNormal(1, 0.5, 1L)::quantile, 256,
+                Interpolation.MONOTONE_CUBIC, TOLERANCE, 99L);
+        InverseCdfGenerator scalar = new InverseCdfGenerator(new LogNormal(1, 0.5, 1L)::quantile, 256,
+                Interpolation.MONOTONE_CUBIC, TOLERANCE, 99L);
+        double[] out = new double[1000];
+        bulk.sample(out, 0, out.length);
+        for (double value : out) {
+            assertEquals(scalar.sample(), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid tables are rejected")
+    void testInvalidParameters() {
+        DoubleUnaryOperator quantile = new Pareto(1, 3, 1L)::quantile;
+        assertThrows(ParameterException.class,
+                () -> new InverseCdfGenerator(quantile, 3, Interpolation.LINEAR, TOLERANCE, 1L));
+        assertThrows(ParameterException.class,
+                () -> new InverseCdfGenerator(quantile, 64, Interpolation.LINEAR, 0, 1L));
+        assertThrows(ParameterException.class,
+                () -> new InverseCdfGenerator(p -> 1 - p, 64, Interpolation.LINEAR, TOLERANCE, 1L));
+        assertThrows(ParameterException.class, () -> InverseCdfGenerator.empirical(new double[] {1}));
+    }
+}
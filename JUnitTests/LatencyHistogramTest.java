@@ -0,0 +1,83 @@
+import org.example.framework.LatencyHistogram;
+import org.example.model.SimulationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Percentiles stay within the configured relative error")
+    void testPercentileAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram(0.001, 100000, 2);
+        Random random = new Random(11);
+        double[] values = new double[50000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -20 * Math.log(1 - random.nextDouble());
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            double exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertEquals(exact, histogram.getValueAtPercentile(percentile), 0.01 * exact + 0.001);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("Merging histograms equals recording everything into one")
+    void testMerge() {
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        Random random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            double value = random.nextDouble() * 500;
+            all.record(value);
+            (i % 3 == 0 ? first : second).record(value);
+        }
+        first.add(second);
+        assertEquals(all.getTotalCount(), first.getTotalCount());
+        assertEquals(all.getValueAtPercentile(99), first.getValueAtPercentile(99));
+        assertEquals(all.getMean(), first.getMean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Encoded histograms decode to the same distribution")
+    void testEncodeDecode() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 0.37);
+        }
+        LatencyHistogram decoded = LatencyHistogram.decode(histogram.encode());
+        assertEquals(histogram.getTotalCount(), decoded.getTotalCount());
+        assertEquals(histogram.getValueAtPercentile(90), decoded.getValueAtPercentile(90));
+        assertEquals(histogram.getMax(), decoded.getMax());
+    }
+
+    @Test
+    @DisplayName("Stored results keep their text and histograms")
+    void testStoredResult() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 0.37);
+        }
+        SimulationResult result = new SimulationResult(0, "2024-01-01 12:00:00", "=== Simulation Results ===\nServed: 10\n");
+        result.setHistograms(Map.of("Time In System", histogram));
+
+        SimulationResult loaded = SimulationResult.fromStoredText(7, result.getTimestamp(), result.toStoredText());
+        assertEquals(result.getResults(), loaded.getResults());
+        LatencyHistogram decoded = loaded.getHistograms().get("Time In System");
+        assertEquals(histogram.getTotalCount(), decoded.getTotalCount());
+        assertEquals(histogram.getValueAtPercentile(90), decoded.getValueAtPercentile(90));
+
+        SimulationResult old = SimulationResult.fromStoredText(8, result.getTimestamp(), "Served: 10\n");
+        assertEquals("Served: 10\n", old.getResults());
+        assertTrue(old.getHistograms().isEmpty());
+    }
+}
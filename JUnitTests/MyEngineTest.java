@@ -150,7 +150,7 @@ class MyEngineTest {
         engine.runEvent(automatDeparture);
 
         // Process teller service completion
-        Event tellerDeparture = new Event(EventType.DEP_TELLER1, Clock.getInstance().getClock() + 10);
+        Event tellerDeparture = new Event(EventType.DEP_TELLER, Clock.getInstance().getClock() + 10, 0);
         engine.runEvent(tellerDeparture);
 
         // Verify customer count was updated
@@ -183,9 +183,41 @@ class MyEngineTest {
                         queueDiff, teller1Length, teller2Length));
     }
 
+    @Test
+    @DisplayName("The last queue snapshot shows the queues at the end of the run")
+    void testFinalQueueSnapshot() {
+        when(mockController.getSleepTime()).thenReturn(0L);
+        engine.setSimulationTime(30);
+        engine.run();
+
+        QueueSnapshot last = engine.takeQueueSnapshot();
+        assertNotNull(last);
+        assertEquals(engine.getContext().getTime(), last.getTime());
+    }
 
+    @Test
+    @DisplayName("Engines keep independent simulation contexts")
+    void testIndependentContexts() {
+        MyEngine other = new MyEngine(mockController);
+        engine.getContext().getClock().setClock(42.0);
 
+        assertNotSame(engine.getContext(), other.getContext());
+        assertEquals(0.0, other.getContext().getTime());
+    }
 
-
-
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Headless engine runs with many more tellers than the GUI shows")
+    void testManyTellers() {
+        SimulationConfig config = new SimulationConfig();
+        config.setNumberOfStations(200);
+        config.setNumberOfAccountStations(50);
+        config.setArrivalInterval(0.05);
+        config.setSimulationTime(100);
+
+        MyEngine headless = new MyEngine(config);
+        headless.run();
+
+        assertTrue(headless.getMetrics().get("Customers Served") > 0);
+        assertTrue(headless.getMetrics().get("Account Customers") > 0);
+    }
+}
@@ -0,0 +1,78 @@
+import org.example.eduni.distributions.ContinuousGenerator;
+import org.example.eduni.distributions.Negexp;
+import org.example.eduni.distributions.RandomGenerator;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SplitMix64;
+import org.example.eduni.distributions.SplittableSource;
+import org.example.eduni.distributions.Xoshiro256StarStar;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSourceTest {
+
+    @Test
+    @DisplayName("SplitMix64 reproduces java.util.SplittableRandom, including split")
+    void testSplitMix64MatchesJdk() {
+        SplittableRandom reference = new SplittableRandom(42);
+        SplitMix64 generator = new SplitMix64(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(reference.nextLong(), generator.nextLong());
+        }
+        SplittableRandom referenceChild = reference.split();
+        SplittableSource child = generator.split();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(referenceChild.nextLong(), child.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("The legacy source gives the same samples as a seed alone")
+    void testLegacySourceIsReproducible() {
+        Negexp seeded = new Negexp(5, 4851L);
+        Negexp sourced = new Negexp(5, RandomSource.LCG.create(4851L));
+        assertInstanceOf(RandomGenerator.class, RandomSource.LCG.create(1));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(seeded.sample(), sourced.sample());
+        }
+    }
+
+    @Test
+    @DisplayName("Every source is deterministic and samples in the open unit interval")
+    void testUniformRange() {
+        for (RandomSource source : RandomSource.values()) {
+            ContinuousGenerator a = source.create(7);
+            ContinuousGenerator b = source.create(7);
+            double sum = 0;
+            for (int i = 0; i < 100000; i++) {
+                double u = a.sample();
+                assertEquals(u, b.sample());
+                assertTrue(u > 0 && u < 1, source + " sampled " + u);
+                sum += u;
+            }
+            assertEquals(0.5, sum / 100000, 0.01, source.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Split xoshiro256** streams differ and reseeding restarts the sequence")
+    void testXoshiroSplitAndSeed() {
+        Xoshiro256StarStar parent = new Xoshiro256StarStar(99);
+        long first = parent.nextLong();
+        parent.setSeed(99);
+        assertEquals(first, parent.nextLong());
+        assertEquals(99, parent.getSeed());
+
+        SplittableSource child = parent.split();
+        int equal = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (child.nextLong() == parent.nextLong()) {
+                equal++;
+            }
+        }
+        assertEquals(0, equal);
+    }
+}
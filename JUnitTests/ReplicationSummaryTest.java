@@ -0,0 +1,35 @@
+import org.example.model.ReplicationSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationSummaryTest {
+
+    @Test
+    @DisplayName("Summary computes mean, variance and t-based interval")
+    void testSummaryStatistics() {
+        ReplicationSummary summary = new ReplicationSummary(List.of(
+                Map.of("Queue Time", 2.0),
+                Map.of("Queue Time", 4.0),
+                Map.of("Queue Time", 6.0)));
+
+        ReplicationSummary.Metric metric = summary.getMetric("Queue Time");
+        assertEquals(3, summary.getReplications());
+        assertEquals(4.0, metric.getMean(), 1e-12);
+        assertEquals(4.0, metric.getVariance(), 1e-12);
+        // t(0.975, 2) = 4.303, standard error = sqrt(4/3)
+        assertEquals(4.303 * Math.sqrt(4.0 / 3), metric.getHalfWidth(), 1e-9);
+        assertTrue(metric.getLower() < 4.0 && metric.getUpper() > 4.0);
+    }
+
+    @Test
+    @DisplayName("Single replication has no confidence interval")
+    void testSingleReplication() {
+        ReplicationSummary summary = new ReplicationSummary(List.of(Map.of("Customers Served", 10.0)));
+        assertTrue(Double.isNaN(summary.getMetric("Customers Served").getHalfWidth()));
+    }
+}
@@ -0,0 +1,61 @@
+import org.example.eduni.distributions.RandomGenerator;
+import org.example.eduni.distributions.SeedGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeedGeneratorTest {
+
+    @Test
+    @DisplayName("Jumping ahead gives the same state as stepping")
+    void testSkipMatchesStepping() {
+        for (long seed : new long[] {1, 4851, 2147483646L, -12345, 99_999_999_999L}) {
+            for (long steps : new long[] {0, 1, 2, 17, 100000}) {
+                RandomGenerator stepped = new RandomGenerator(seed);
+                for (long i = 0; i < steps; i++) {
+                    stepped.nextLong();
+                }
+                RandomGenerator jumped = new RandomGenerator(seed);
+                jumped.skip(steps);
+                assertEquals(stepped.getSeed(), jumped.getSeed(), "seed " + seed + ", steps " + steps);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The multiplier cycles with the period of the generator")
+    void testMultiplierPeriod() {
+        assertEquals(1, RandomGenerator.multiplier(0));
+        assertEquals(742938285L, RandomGenerator.multiplier(1));
+        assertEquals(1, RandomGenerator.multiplier(2147483646L));
+    }
+
+    @Test
+    @DisplayName("Seeds are those of the original spin loop")
+    void testSeedsUnchanged() {
+        SeedGenerator seeds = new SeedGenerator(4851, 100000);
+        RandomGenerator reference = new RandomGenerator(4851);
+        assertEquals(4851, seeds.sample());
+        for (int s = 0; s < 5; s++) {
+            for (int i = 0; i < 100000; i++) {
+                reference.nextLong();
+            }
+            assertEquals(reference.getSeed(), seeds.sample());
+        }
+    }
+
+    @Test
+    @DisplayName("Substream i starts where i strides of a spaced generator would")
+    void testSubstreams() {
+        long stride = 200_000_000L;
+        SeedGenerator root = new SeedGenerator(4851, 100000);
+        SeedGenerator roots = new SeedGenerator(4851, (int) stride);
+        for (int r = 0; r < 8; r++) {
+            SeedGenerator substream = root.substream(r, stride);
+            assertEquals(roots.sample(), substream.sample());
+            assertEquals(100000, substream.getSpacing());
+        }
+        assertEquals(4851, root.getSeed());
+    }
+}
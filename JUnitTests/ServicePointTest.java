@@ -27,7 +27,7 @@ class ServicePointTest {
         servicePoint = new ServicePoint(
                 mockGenerator,
                 mockEventList,
-                EventType.DEP_TELLER1
+                EventType.DEP_TELLER
         );
 
         testCustomer = new Customer(CustomerType.TRANSACTION_CLIENT);
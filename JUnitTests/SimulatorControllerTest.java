@@ -1,7 +1,5 @@
 import org.example.View.SimulatorView;
 import org.example.controller.SimulatorController;
-import org.example.model.Customer;
-import org.example.model.CustomerType;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,10 +7,6 @@ import org.junit.jupiter.api.DisplayName;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 public class SimulatorControllerTest {
     private SimulatorController controller;
@@ -52,21 +46,6 @@ public class SimulatorControllerTest {
         assertEquals(18.0, controller.getAccountServiceTime());
     }
 
-    @Test
-    @DisplayName("Test queue status conversion")
-    void testQueueStatusConversion() {
-        Map<String, List<Customer>> queueStatus = new HashMap<>();
-        List<Customer> customers = new ArrayList<>();
-        customers.add(new Customer(CustomerType.TRANSACTION_CLIENT));
-        customers.add(new Customer(CustomerType.ACCOUNT_CLIENT));
-        queueStatus.put("teller1", customers);
-
-        Map<String, List<Integer>> signs = controller.convertQueueStatusToSigns(queueStatus);
-        assertEquals(2, signs.get("teller1").size());
-        assertEquals(1, signs.get("teller1").get(0)); // Transaction client
-        assertEquals(2, signs.get("teller1").get(1)); // Account client
-    }
-
     @Test
     @DisplayName("Test simulation speed control")
     void testSimulationSpeedControl() {
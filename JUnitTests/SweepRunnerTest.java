@@ -0,0 +1,138 @@
+import org.example.controller.SweepRunner;
+import org.example.framework.Trace;
+import org.example.model.ParameterRange;
+import org.example.model.SimulationConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweepRunnerTest {
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setup() {
+        Trace.setTraceLevel(Trace.Level.ERR);
+    }
+
+    private static SweepRunner smallSweep() {
+        SimulationConfig base = new SimulationConfig();
+        base.setSimulationTime(200);
+        SweepRunner sweep = new SweepRunner(base);
+        sweep.setNumberOfStations(new ParameterRange(1, 3, 3));
+        sweep.setArrivalInterval(new ParameterRange(2, 6, 2));
+        sweep.setThreads(2);
+        return sweep;
+    }
+
+    private static SweepRunner sweepOn(Path file) {
+        SweepRunner sweep = smallSweep();
+        sweep.setCheckpointFile(file);
+        return sweep;
+    }
+
+    @Test
+    @DisplayName("A grid visits every combination, the last range varying fastest")
+    void testGridExpansion() {
+        SweepRunner sweep = smallSweep();
+        sweep.setClientDistribution(new ParameterRange(50, 90, 3));
+        List<SimulationConfig> points = sweep.expand();
+
+        assertEquals(3 * 2 * 3, points.size());
+        assertEquals(1, points.get(0).getNumberOfStations());
+        assertEquals(2.0, points.get(0).getArrivalInterval());
+        assertEquals(50.0, points.get(0).getClientDistribution());
+        assertEquals(70.0, points.get(1).getClientDistribution());
+        assertEquals(6.0, points.get(3).getArrivalInterval());
+        assertEquals(2, points.get(6).getNumberOfStations());
+        assertEquals(3, points.get(17).getNumberOfStations());
+        assertEquals(90.0, points.get(17).getClientDistribution());
+        // fixed parameters keep their base value
+        assertEquals(1, points.get(17).getNumberOfAccountStations());
+    }
+
+    @Test
+    @DisplayName("A Latin hypercube puts exactly one point in every stratum of every range")
+    void testLatinHypercubeExpansion() {
+        int samples = 20;
+        SweepRunner sweep = smallSweep();
+        sweep.setTransactionServiceTime(new ParameterRange(5, 25, 1));
+        sweep.useLatinHypercube(samples);
+        List<SimulationConfig> points = sweep.expand();
+
+        assertEquals(samples, points.size());
+        Set<Integer> arrivalStrata = new HashSet<>();
+        Set<Integer> serviceStrata = new HashSet<>();
+        for (SimulationConfig point : points) {
+            arrivalStrata.add((int) ((point.getArrivalInterval() - 2) / 4 * samples));
+            serviceStrata.add((int) ((point.getTransactionServiceTime() - 5) / 20 * samples));
+        }
+        assertEquals(samples, arrivalStrata.size());
+        assertEquals(samples, serviceStrata.size());
+
+        List<SimulationConfig> again = sweep.expand();
+        for (int i = 0; i < samples; i++) {
+            assertEquals(points.get(i).getArrivalInterval(), again.get(i).getArrivalInterval());
+        }
+    }
+
+    @Test
+    @DisplayName("A sweep resumed from a partial checkpoint runs only the missing points")
+    void testResumeFromPartialCheckpoint() throws IOException {
+        Path file = directory.resolve("sweep.csv");
+        assertEquals(6, sweepOn(file).run());
+        List<String> complete = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2 + 6, complete.size());
+
+        // keep the settings, the column header and two rows, then cut the third row short
+        List<String> partial = complete.subList(0, 4);
+        String cut = complete.get(4).substring(0, complete.get(4).length() / 2);
+        Files.write(file, (String.join("\n", partial) + "\n" + cut).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(4, sweepOn(file).run());
+        List<String> resumed = Files.readAllLines(file, StandardCharsets.UTF_8);
+        int columns = resumed.get(1).split(",").length;
+        Set<String> indices = new HashSet<>();
+        for (String line : resumed.subList(2, resumed.size())) {
+            if (line.split(",").length == columns) {
+                indices.add(line.split(",")[0]);
+            }
+        }
+        assertEquals(6, indices.size());
+        // nothing is left to run
+        assertEquals(0, sweepOn(file).run());
+    }
+
+    @Test
+    @DisplayName("A checkpoint written by a sweep with other settings is refused")
+    void testMismatchedCheckpointRejected() throws IOException {
+        Path file = directory.resolve("sweep.csv");
+        sweepOn(file).run();
+
+        SweepRunner otherSeed = sweepOn(file);
+        otherSeed.setSeed(1234L);
+        assertThrows(IllegalStateException.class, otherSeed::run);
+
+        SweepRunner otherRange = sweepOn(file);
+        otherRange.setArrivalInterval(new ParameterRange(2, 8, 2));
+        assertThrows(IllegalStateException.class, otherRange::run);
+
+        // a row whose parameters are not those of the point with its index
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        String[] cells = lines.get(2).split(",", 3);
+        lines.set(2, cells[0] + ",9," + cells[2]);
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        assertThrows(IllegalStateException.class, () -> sweepOn(file).run());
+    }
+}
@@ -0,0 +1,52 @@
+import org.example.framework.Tally;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TallyTest {
+
+    @Test
+    @DisplayName("Mean, variance and extremes match the exact values")
+    void testMoments() {
+        Tally tally = new Tally();
+        for (double x : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+            tally.add(x);
+        }
+        assertEquals(8, tally.getCount());
+        assertEquals(5.0, tally.getMean(), 1e-12);
+        assertEquals(32.0 / 7, tally.getVariance(), 1e-12);
+        assertEquals(2.0, tally.getMin());
+        assertEquals(9.0, tally.getMax());
+    }
+
+    @Test
+    @DisplayName("Streaming percentiles are close to the exact sample percentiles")
+    void testPercentiles() {
+        Tally tally = new Tally();
+        Random random = new Random(7);
+        double[] values = new double[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -10 * Math.log(1 - random.nextDouble());
+            tally.add(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(values[50000], tally.getP50(), 0.02 * values[50000]);
+        assertEquals(values[90000], tally.getP90(), 0.02 * values[90000]);
+        assertEquals(values[99000], tally.getP99(), 0.02 * values[99000]);
+    }
+
+    @Test
+    @DisplayName("Percentiles are exact for fewer than five observations")
+    void testSmallSample() {
+        Tally tally = new Tally();
+        assertTrue(Double.isNaN(tally.getP50()));
+        tally.add(3);
+        tally.add(1);
+        tally.add(2);
+        assertEquals(2.0, tally.getP50());
+    }
+}
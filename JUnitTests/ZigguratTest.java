@@ -0,0 +1,108 @@
+import org.example.eduni.distributions.Negexp;
+import org.example.eduni.distributions.Normal;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Goodness-of-fit of the Ziggurat samplers: a Kolmogorov-Smirnov test against the exact
+ * distribution function, plus a check of the tail mass the tail algorithms produce.
+ */
+class ZigguratTest {
+    private static final int N = 200_000;
+    /** Critical value of sqrt(n) * D at the 0.1% level */
+    private static final double KS_CRITICAL = 1.95;
+    /** The first samples of normal2 for the LCG with seed 3, recorded before the Ziggurat was added */
+    private static final double[] LEGACY_BASELINE = {
+            1.333398247361086, -0.8165753733254988, -0.24878535472176305, -0.33297784001995323,
+            1.6038019133792356, 0.14959793990530335, -1.022052001181922, 0.6988089041584805
+    };
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.class)
+    @DisplayName("Ziggurat normal samples follow N(mean, variance)")
+    void testNormal(RandomSource source) {
+        Normal normal = new Normal(10, 4, source.create(11));
+        normal.setSamplingMethod(SamplingMethod.FAST);
+        double[] values = new double[N];
+        int tail = 0;
+        for (int i = 0; i < N; i++) {
+            values[i] = normal.sample();
+            if (Math.abs(values[i] - 10) > 2 * 3) {
+                tail++;
+            }
+        }
+        assertTrue(ksStatistic(values, x -> standardNormalCdf((x - 10) / 2)) < KS_CRITICAL);
+        // P(|Z| > 3) = 0.0027
+        assertEquals(0.0027 * N, tail, 5 * Math.sqrt(0.0027 * N));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.class)
+    @DisplayName("Ziggurat exponential samples follow Exp(mean)")
+    void testNegexp(RandomSource source) {
+        Negexp negexp = new Negexp(5, source.create(12));
+        negexp.setSamplingMethod(SamplingMethod.FAST);
+        double[] values = new double[N];
+        int tail = 0;
+        for (int i = 0; i < N; i++) {
+            values[i] = negexp.sample();
+            assertTrue(values[i] >= 0);
+            // beyond the base strip of the Ziggurat, 7.697 standard units
+            if (values[i] > 5 * 7.697) {
+                tail++;
+            }
+        }
+        assertTrue(ksStatistic(values, x -> 1 - Math.exp(-x / 5)) < KS_CRITICAL);
+        double expectedTail = Math.exp(-7.697) * N;
+        assertEquals(expectedTail, tail, 5 * Math.sqrt(expectedTail));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.class)
+    @DisplayName("The legacy method is still the default and unchanged")
+    void testLegacyDefault(RandomSource source) {
+        Normal normal = new Normal(0, 1, source.create(3));
+        assertEquals(SamplingMethod.LEGACY, normal.getSamplingMethod());
+        Normal explicit = new Normal(0, 1, source.create(3));
+        explicit.setSamplingMethod(SamplingMethod.LEGACY);
+        for (int i = 0; i < 100; i++) {
+            double value = normal.sample();
+            assertEquals(value, explicit.sample());
+            if (source == RandomSource.LCG && i < LEGACY_BASELINE.length) {
+                // Math.log and Math.cos may differ in the last bit between platforms
+                assertEquals(LEGACY_BASELINE[i], value, 1e-12);
+            }
+        }
+    }
+
+    /** Returns sqrt(n) times the Kolmogorov-Smirnov distance of the sample to the given CDF */
+    private static double ksStatistic(double[] values, DoubleUnaryOperator cdf) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        double d = 0;
+        for (int i = 0; i < n; i++) {
+            double f = cdf.applyAsDouble(sorted[i]);
+            d = Math.max(d, Math.max(f - (double) i / n, (i + 1.0) / n - f));
+        }
+        return d * Math.sqrt(n);
+    }
+
+    /** Standard normal CDF from the erfc approximation of Numerical Recipes, error below 1.2e-7 */
+    private static double standardNormalCdf(double x) {
+        double z = Math.abs(x) / Math.sqrt(2);
+        double t = 1 / (1 + 0.5 * z);
+        double erfc = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? 1 - erfc / 2 : erfc / 2;
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.benchmark;
+
+import org.example.eduni.distributions.Beta;
+import org.example.eduni.distributions.BetaPrime;
+import org.example.eduni.distributions.Cauchy;
+import org.example.eduni.distributions.ChiSquare;
+import org.example.eduni.distributions.ContinuousGenerator;
+import org.example.eduni.distributions.Generator;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.eduni.distributions.Erlang;
+import org.example.eduni.distributions.FDistribution;
+import org.example.eduni.distributions.Gamma;
+import org.example.eduni.distributions.InverseCdfGenerator;
+import org.example.eduni.distributions.InverseCdfGenerator.Interpolation;
+import org.example.eduni.distributions.Invgamma;
+import org.example.eduni.distributions.LogNormal;
+import org.example.eduni.distributions.Logistic;
+import org.example.eduni.distributions.Negexp;
+import org.example.eduni.distributions.Normal;
+import org.example.eduni.distributions.Pareto;
+import org.example.eduni.distributions.Tstudent;
+import org.example.eduni.distributions.Uniform;
+import org.example.eduni.distributions.Weibull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Cost of one {@code sample()} call on every continuous generator of {@code eduni.distributions},
+ * and of one sample drawn in bulk by {@code sample(double[], int, int)} a block at a time.
+ * Generators are created once with a fixed seed and parameters typical of the bank model,
+ * so the measurement excludes construction and seeding. Every generator is measured with
+ * the legacy and the fast sampling method. The "-table" variants sample the same distribution
+ * from an {@link InverseCdfGenerator}, built from the quantile function or, for BetaPrime,
+ * from a sample of 100,000 values. For Pareto the table depends on the sampling method,
+ * since legacy sampling swaps its scale and shape.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContinuousDistributionBenchmark {
+	private static final long SEED = 4851L;
+	private static final int BLOCK = 256;
+	private static final double TABLE_TOLERANCE = 1e-6;
+	/** The empirical quantile function bends at every order statistic, so cubic pieces cannot follow it closer */
+	private static final double EMPIRICAL_TOLERANCE = 1e-3;
+
+	@Param({"Beta", "BetaPrime", "BetaPrime-table", "Cauchy", "ChiSquare", "Erlang", "Erlang-large", "FDistribution",
+			"Gamma", "Gamma-large", "Invgamma", "LogNormal", "LogNormal-table", "Logistic", "Negexp", "Normal", "Pareto",
+			"Pareto-table", "Tstudent", "Uniform", "Weibull", "Weibull-table"})
+	public String distribution;
+
+	@Param({"LEGACY", "FAST"})
+	public SamplingMethod method;
+
+	private ContinuousGenerator generator;
+	private final double[] block = new double[BLOCK];
+
+	@Setup
+	public void setUp() {
+		generator = create(distribution, method);
+		((Generator) generator).setSamplingMethod(method);
+	}
+
+	@Benchmark
+	public double sample() {
+		return generator.sample();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BLOCK)
+	public double[] sampleBulk() {
+		generator.sample(block, 0, BLOCK);
+		return block;
+	}
+
+	/**
+	 * Creates the named generator with fixed parameters and seed.
+	 * @param name The simple class name of the generator, optionally suffixed with "-large" or "-table".
+	 * @param method The sampling method the generator will use, which decides the distribution a
+	 *               "-table" variant must tabulate to match it.
+	 * @return The generator.
+	 */
+	static ContinuousGenerator create(String name, SamplingMethod method) {
+		switch (name) {
+			case "Beta": return new Beta(2, 5, SEED);
+			case "BetaPrime": return new BetaPrime(2, 5, SEED);
+			case "BetaPrime-table": return table(InverseCdfGenerator.empirical(draw(new BetaPrime(2, 5, SEED + 1), 100_000)),
+					EMPIRICAL_TOLERANCE);
+			case "Cauchy": return new Cauchy(0, 1, SEED);
+			case "ChiSquare": return new ChiSquare(5, SEED);
+			case "Erlang": return new Erlang(3, 2, SEED);
+			case "Erlang-large": return new Erlang(100, 0.1, SEED);
+			case "FDistribution": return new FDistribution(5, 10, SEED);
+			case "Gamma": return new Gamma(2, 3, SEED);
+			case "Gamma-large": return new Gamma(0.1, 100, SEED);
+			case "Invgamma": return new Invgamma(2, 3, SEED);
+			case "LogNormal": return new LogNormal(1, 0.5, SEED);
+			case "LogNormal-table": return table(new LogNormal(1, 0.5, SEED)::quantile, TABLE_TOLERANCE);
+			case "Logistic": return new Logistic(0, 1, SEED);
+			case "Negexp": return new Negexp(10, SEED);
+			case "Normal": return new Normal(10, 4, SEED);
+			case "Pareto": return new Pareto(1, 3, SEED);
+			// legacy Pareto(1, 3) draws 3/u, the textbook Pareto(3, 1); FAST draws the textbook Pareto(1, 3)
+			case "Pareto-table": return table((method == SamplingMethod.FAST ? new Pareto(1, 3, SEED)
+					: new Pareto(3, 1, SEED))::quantile, TABLE_TOLERANCE);
+			case "Tstudent": return new Tstudent(5, SEED);
+			case "Uniform": return new Uniform(0, 10, SEED);
+			// the legacy sampler raises log(u) < 0 to the power 1/shape, which is NaN unless
+			// 1/shape is an integer; shape 0.5 keeps it finite, and then it is the exact Weibull,
+			// so both methods and the table sample the textbook Weibull(2, 0.5)
+			case "Weibull": return new Weibull(2, 0.5, SEED);
+			case "Weibull-table": return table(new Weibull(2, 0.5, SEED)::quantile, TABLE_TOLERANCE);
+			default: throw new IllegalArgumentException("Unknown distribution: " + name);
+		}
+	}
+
+	private static ContinuousGenerator table(DoubleUnaryOperator quantile, double tolerance) {
+		return new InverseCdfGenerator(quantile, InverseCdfGenerator.DEFAULT_TABLE_SIZE, Interpolation.MONOTONE_CUBIC,
+				tolerance, SEED);
+	}
+
+	private static double[] draw(ContinuousGenerator generator, int count) {
+		double[] values = new double[count];
+		generator.sample(values, 0, count);
+		return values;
+	}
+}
@@ -0,0 +1,79 @@
+package org.example.benchmark;
+
+import org.example.eduni.distributions.Bernoulli;
+import org.example.eduni.distributions.Binomial;
+import org.example.eduni.distributions.Categorical;
+import org.example.eduni.distributions.DiscreteGenerator;
+import org.example.eduni.distributions.Generator;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.eduni.distributions.Geometric;
+import org.example.eduni.distributions.Pascal;
+import org.example.eduni.distributions.Poisson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@code sample()} call on every discrete generator of {@code eduni.distributions}.
+ * Poisson and Binomial are measured with a small and a large mean, since their legacy
+ * samplers loop a number of times that grows with the mean; Pascal likewise with few and
+ * many successes. Every generator is measured with the legacy and the fast sampling method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscreteDistributionBenchmark {
+	private static final long SEED = 4851L;
+
+	@Param({"Bernoulli", "Binomial", "Binomial-large", "Categorical", "Geometric", "Pascal", "Pascal-large", "Poisson", "Poisson-large"})
+	public String distribution;
+
+	@Param({"LEGACY", "FAST"})
+	public SamplingMethod method;
+
+	private DiscreteGenerator generator;
+
+	@Setup
+	public void setUp() {
+		generator = create(distribution);
+		((Generator) generator).setSamplingMethod(method);
+	}
+
+	@Benchmark
+	public long sample() {
+		return generator.sample();
+	}
+
+	/**
+	 * Creates the named generator with fixed parameters and seed.
+	 * @param name The simple class name of the generator, optionally suffixed with "-large".
+	 * @return The generator.
+	 */
+	static DiscreteGenerator create(String name) {
+		switch (name) {
+			case "Bernoulli": return new Bernoulli(0.3, SEED);
+			case "Binomial": return new Binomial(0.3, 10, SEED);
+			case "Binomial-large": return new Binomial(0.3, 1000, SEED);
+			case "Categorical": return new Categorical(new double[] {0.905, 0.095}, SEED);
+			case "Geometric": return new Geometric(0.3, SEED);
+			case "Pascal": return new Pascal(0.3, 5, SEED);
+			case "Pascal-large": return new Pascal(0.3, 100, SEED);
+			case "Poisson": return new Poisson(2, SEED);
+			case "Poisson-large": return new Poisson(200, SEED);
+			default: throw new IllegalArgumentException("Unknown distribution: " + name);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.example.benchmark;
+
+import org.example.eduni.distributions.SeedGenerator;
+import org.example.framework.EventList;
+import org.example.framework.Trace;
+import org.example.model.MyEngine;
+import org.example.model.SimulationConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full headless runs of {@link MyEngine}.
+ * Every invocation builds and runs a fresh engine with fixed seeds. Besides the time per run,
+ * the {@code events} counter reports the engine's throughput in events per second; run with
+ * {@code -prof gc}, or through {@link #main(String[])}, to also get the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EngineBenchmark {
+	@Param({"1000", "10000"})
+	public double simulationTime;
+
+	@Param({"PRIORITY_QUEUE", "ARRAY_HEAP", "CALENDAR_QUEUE"})
+	public EventList.Implementation eventList;
+
+	private SimulationConfig config;
+
+	/**
+	 * Simulation events processed, reported by JMH as a rate per second.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Events {
+		public long events;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			events = 0;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		Trace.setTraceLevel(Trace.Level.ERR);
+		config = new SimulationConfig();
+		config.setSimulationTime(simulationTime);
+		config.setEventListImplementation(eventList);
+	}
+
+	@Benchmark
+	public MyEngine run(Events counter) {
+		MyEngine engine = new MyEngine(config, new SeedGenerator(4851L, 100000));
+		engine.run();
+		counter.events += engine.getEventCount();
+		return engine;
+	}
+
+	/**
+	 * Runs this benchmark with the GC profiler attached.
+	 * @param args Not used.
+	 * @throws RunnerException If the benchmark fails.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(EngineBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
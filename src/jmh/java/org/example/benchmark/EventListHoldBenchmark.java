@@ -0,0 +1,68 @@
+package org.example.benchmark;
+
+import org.example.framework.Event;
+import org.example.framework.EventList;
+import org.example.framework.IEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hold-model benchmark for the event list implementations, the JMH counterpart of
+ * {@link org.example.test.EventListBenchmark}.
+ * The list is filled with {@code size} events; each hold removes the earliest event and
+ * schedules a new one at its time plus an exponential increment, so the size stays constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EventListHoldBenchmark {
+	private enum HoldEvent implements IEventType { HOLD }
+
+	@Param({"10", "100", "1000", "10000", "100000", "1000000"})
+	public int size;
+
+	@Param({"PRIORITY_QUEUE", "ARRAY_HEAP", "CALENDAR_QUEUE"})
+	public EventList.Implementation implementation;
+
+	private EventList list;
+	private SplittableRandom random;
+
+	@Setup
+	public void setUp() {
+		random = new SplittableRandom(4851L);
+		list = EventList.create(implementation);
+		for (int i = 0; i < size; i++) {
+			list.add(new Event(HoldEvent.HOLD, exponential()));
+		}
+		// bring the time distribution of pending events to steady state before measuring
+		for (int i = 0; i < 4 * size; i++) {
+			hold();
+		}
+	}
+
+	@Benchmark
+	public double hold() {
+		double time = list.remove().getTime();
+		list.add(new Event(HoldEvent.HOLD, time + exponential()));
+		return time;
+	}
+
+	private double exponential() {
+		return -Math.log(1.0 - random.nextDouble());
+	}
+}
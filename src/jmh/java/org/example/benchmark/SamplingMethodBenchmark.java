@@ -0,0 +1,63 @@
+package org.example.benchmark;
+
+import org.example.eduni.distributions.Generator;
+import org.example.eduni.distributions.Negexp;
+import org.example.eduni.distributions.Normal;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the legacy and the fast sampling methods of the normal and exponential
+ * generators, the two distributions the bank model samples on every arrival and service,
+ * for every uniform source.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SamplingMethodBenchmark {
+	@Param({"LEGACY", "FAST"})
+	public SamplingMethod method;
+
+	@Param({"LCG", "XOSHIRO256", "SPLITMIX64"})
+	public RandomSource source;
+
+	private Normal normal;
+	private Negexp negexp;
+
+	@Setup
+	public void setUp() {
+		normal = configure(new Normal(10, 5, source.create(4851L)));
+		negexp = configure(new Negexp(5, source.create(4852L)));
+	}
+
+	@Benchmark
+	public double normal() {
+		return normal.sample();
+	}
+
+	@Benchmark
+	public double negexp() {
+		return negexp.sample();
+	}
+
+	private <G extends Generator> G configure(G generator) {
+		generator.setSamplingMethod(method);
+		return generator;
+	}
+}
@@ -0,0 +1,74 @@
+package org.example.benchmark;
+
+import org.example.eduni.distributions.Negexp;
+import org.example.framework.EventList;
+import org.example.framework.SimulationContext;
+import org.example.framework.Trace;
+import org.example.model.Customer;
+import org.example.model.CustomerType;
+import org.example.model.EventType;
+import org.example.model.ServicePoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of moving one customer through a {@link ServicePoint} whose queue holds {@code depth} customers.
+ * Each operation enqueues a customer, completes the service in progress, removes its departure
+ * event from the event list and starts the next service, so the queue length stays constant.
+ * Customers are created once and recycled, which leaves the statistics and event scheduling of
+ * the service point as the only work measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServicePointBenchmark {
+	@Param({"1", "10", "1000"})
+	public int depth;
+
+	private SimulationContext context;
+	private EventList eventList;
+	private ServicePoint servicePoint;
+	private Customer[] customers;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Trace.setTraceLevel(Trace.Level.ERR);
+		context = new SimulationContext();
+		eventList = new EventList();
+		servicePoint = new ServicePoint(new Negexp(10, 4851L), eventList, EventType.DEP_TELLER, 0, context);
+		customers = new Customer[depth + 1];
+		for (int i = 0; i < customers.length; i++) {
+			customers[i] = new Customer(CustomerType.TRANSACTION_CLIENT, context);
+		}
+		for (int i = 0; i < depth; i++) {
+			servicePoint.addQueue(customers[i]);
+		}
+		next = depth;
+		servicePoint.beginService();
+	}
+
+	@Benchmark
+	public Customer enqueueDequeue() {
+		servicePoint.addQueue(customers[next]);
+		context.getClock().setClock(eventList.remove().getTime());
+		Customer served = servicePoint.removeQueue();
+		servicePoint.beginService();
+		next = next == customers.length - 1 ? 0 : next + 1;
+		return served;
+	}
+}
@@ -1,5 +1,6 @@
 package org.example.View;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -15,9 +16,9 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import org.example.controller.SimulatorController;
-import org.example.model.Customer;
-import java.util.List;
-import java.util.Map;
+import org.example.model.QueueSnapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -45,11 +46,20 @@ public class SimulatorView extends Application {
     private Slider accountServiceTimeSlider = new Slider(10, 60, 15);
     private Label intervalLabel = new Label("Client Arrival Interval:");
     private TextArea statusArea = new TextArea();
+    /** Static layer with the background, automat and tellers; redrawn only when the layout changes */
+    private Canvas backgroundCanvas;
+    /** Layer with the queued customers, redrawn at most once per frame */
     private Canvas simulationCanvas;
+    /** Pulls the latest queue snapshot and customer count once per frame */
+    private AnimationTimer frameTimer;
+    /** Latest customer count reported by the engine, or -1 if already shown */
+    private final AtomicInteger pendingCustomerCount = new AtomicInteger(-1);
     private Label simulationStatusLabel = new Label("Status: Ready");
     private ScrollPane statsScrollPane = new ScrollPane();
     private VBox statsPanel = new VBox(5);
     private int margin = 50;
+    /** Most tellers the canvas can draw; the engine itself has no limit */
+    private static final int MAX_DRAWN_STATIONS = 6;
     private ComboBox<String> resultsHistoryBox = new ComboBox<>();
     private VBox historyPanel = new VBox(5);
 
@@ -153,11 +163,12 @@ public class SimulatorView extends Application {
 
         );
         // Canvas
+        backgroundCanvas = new Canvas(650, 400);
         simulationCanvas = new Canvas(650, 400);
         VBox canvasContainer = new VBox();
         canvasContainer.setAlignment(Pos.CENTER);
         canvasContainer.setMaxWidth(Double.MAX_VALUE);
-        StackPane canvasWrapper = new StackPane(simulationCanvas);
+        StackPane canvasWrapper = new StackPane(backgroundCanvas, simulationCanvas);
         canvasWrapper.setStyle("-fx-background-color: white;");
         canvasWrapper.setPadding(new Insets(10));
         canvasWrapper.setMaxWidth(650);
@@ -203,6 +214,14 @@ public class SimulatorView extends Application {
         updateResultsHistory();
         stage.show();
 
+        frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                refreshFrame();
+            }
+        };
+        frameTimer.start();
+
         // Event handlers
         startButton.setOnAction(e -> {
             simulationTimeSlider.setDisable(true);
@@ -271,14 +290,40 @@ public class SimulatorView extends Application {
 
 
 
+    /**
+     * Stops the frame timer when the application exits.
+     */
+    @Override
+    public void stop() {
+        if (frameTimer != null) {
+            frameTimer.stop();
+        }
+    }
+
+    /**
+     * Updates the animated parts of the window; called by the frame timer on every frame.
+     * Takes at most one queue snapshot and one customer count per frame, however fast the engine runs.
+     */
+    private void refreshFrame() {
+        QueueSnapshot snapshot = controller.takeQueueSnapshot();
+        if (snapshot != null) {
+            updateQueueVisualization(snapshot);
+        }
+        int customers = pendingCustomerCount.getAndSet(-1);
+        // a count still pending when the run ends must not replace the completion message
+        if (customers >= 0 && !isSimulationComplete()) {
+            statusArea.setText("Simulation running...\nTotal customers served: " + customers);
+        }
+    }
+
     // Drawing methods
     /**
      * Draws the base layout of the simulation including service points and tellers.
-     * Called when initializing or resetting the visualization.
+     * Drawn on the background layer, so it is only needed when the layout changes.
      */
     private void drawBaseElements() {
-        GraphicsContext gc = simulationCanvas.getGraphicsContext2D();
-        double canvasHeight = simulationCanvas.getHeight();
+        GraphicsContext gc = backgroundCanvas.getGraphicsContext2D();
+        double canvasHeight = backgroundCanvas.getHeight();
         int numTransactionTellers = controller.getNumberOfStations();
         int numAccountTellers = controller.getNumberOfAccountStations();
         int tellerWidth = 40;
@@ -291,7 +336,7 @@ public class SimulatorView extends Application {
 
         // Draw background and automat
         gc.setFill(Color.GRAY);
-        gc.fillRect(0, 0, simulationCanvas.getWidth(), simulationCanvas.getHeight());
+        gc.fillRect(0, 0, backgroundCanvas.getWidth(), backgroundCanvas.getHeight());
         gc.drawImage(automate, 250, (canvasHeight - 50) / 2, 30, 50);
 
         // Draw transaction tellers
@@ -308,41 +353,32 @@ public class SimulatorView extends Application {
     }
 
     /**
-     * Draws customer queues for all service points based on current queue status.
+     * Draws customer queues for all service points based on a queue snapshot.
      *
-     * @param queueStatus Map containing queue information for each service point
+     * @param snapshot Snapshot of the queue lengths and customer types of every service point
      */
-    private void drawCustomerQueues(Map<String, List<Integer>> queueStatus) {
+    private void drawCustomerQueues(QueueSnapshot snapshot) {
         GraphicsContext gc = simulationCanvas.getGraphicsContext2D();
         double canvasHeight = simulationCanvas.getHeight();
-        int numTransactionTellers = controller.getNumberOfStations();
-        int numAccountTellers = controller.getNumberOfAccountStations();
+        int numTransactionTellers = Math.min(snapshot.getTransactionTellers(), controller.getNumberOfStations());
+        int numAccountTellers = Math.min(snapshot.getAccountTellers(), controller.getNumberOfAccountStations());
 
         double usableHeight = canvasHeight - (2 * margin) - 50;
         double spacing = usableHeight / (numTransactionTellers + numAccountTellers - 1);
 
         // Draw automat queue
-        List<Integer> automatQueue = queueStatus.get("automat");
-        if (automatQueue != null) {
-            drawQueueCustomers(gc, automatQueue, 220, (int)(canvasHeight - 50) / 2, true);
-        }
+        drawQueueCustomers(gc, snapshot, snapshot.automatSlot(), 220, (int)(canvasHeight - 50) / 2, true);
 
         // Draw transaction teller queues
         for(int i = 1; i <= numTransactionTellers; i++) {
-            List<Integer> tellerQueue = queueStatus.get("teller" + i);
-            if (tellerQueue != null) {
-                double yPosition = margin + (spacing * (i-1));
-                drawQueueCustomers(gc, tellerQueue, 450, (int)yPosition, true);
-            }
+            double yPosition = margin + (spacing * (i-1));
+            drawQueueCustomers(gc, snapshot, snapshot.transactionSlot(i - 1), 450, (int)yPosition, true);
         }
 
         // Draw account teller queues
         for(int i = 1; i <= numAccountTellers; i++) {
-            List<Integer> accountQueue = queueStatus.get("account" + i);
-            if (accountQueue != null) {
-                double yPosition = margin + (spacing * (numTransactionTellers + i - 1));
-                drawQueueCustomers(gc, accountQueue, 450, (int)yPosition, true);
-            }
+            double yPosition = margin + (spacing * (numTransactionTellers + i - 1));
+            drawQueueCustomers(gc, snapshot, snapshot.accountSlot(i - 1), 450, (int)yPosition, true);
         }
     }
 
@@ -350,34 +386,29 @@ public class SimulatorView extends Application {
      * Draws individual customers in a queue with appropriate spacing and overflow handling.
      *
      * @param gc Graphics context for drawing
-     * @param clientSigns List of customer types (1 for transaction, 2 for account)
+     * @param snapshot Snapshot holding the queue
+     * @param slot Slot of the queue in the snapshot
      * @param startX Starting X coordinate for the queue
      * @param startY Starting Y coordinate for the queue
      * @param horizontal Whether to draw the queue horizontally
      */
-    private void drawQueueCustomers(GraphicsContext gc, List<Integer> clientSigns, int startX, int startY, boolean horizontal) {
-        if (clientSigns == null) return;
-
-        if (clientSigns.size() <= 10) {
-            for (int i = 0; i < clientSigns.size(); i++) {
-                int x = startX - (i * 20);
-                int y = startY + 10;
-                gc.drawImage(clientSigns.get(i) == 1 ? transactionClient : accountClient, x, y, 20, 40);
-            }
-        } else {
-            for (int i = 0; i < 9; i++) {
-                int x = startX - (i * 20);
-                int y = startY + 10;
-                gc.drawImage(clientSigns.get(i) == 1 ? transactionClient : accountClient, x, y, 20, 40);
-            }
-
+    private void drawQueueCustomers(GraphicsContext gc, QueueSnapshot snapshot, int slot, int startX, int startY, boolean horizontal) {
+        int length = snapshot.getLength(slot);
+        int drawn = length <= 10 ? length : 9;
+
+        for (int i = 0; i < drawn; i++) {
+            int x = startX - (i * 20);
+            int y = startY + 10;
+            gc.drawImage(snapshot.getType(slot, i) == QueueSnapshot.TRANSACTION ? transactionClient : accountClient, x, y, 20, 40);
+        }
+        if (length > 10) {
             int x = startX - (9 * 20);
             int y = startY + 25;
             gc.setFill(Color.BLACK);
             gc.setStroke(Color.WHITE);
             gc.setLineWidth(1.5);
             gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 20));
-            String text = "+" + (clientSigns.size() - 9);
+            String text = "+" + (length - 9);
             gc.strokeText(text, x, y);
             gc.fillText(text, x, y);
         }
@@ -390,6 +421,12 @@ public class SimulatorView extends Application {
      */
     public void showSimulationComplete() {
         Platform.runLater(() -> {
+            // draw the final queues before the completed status stops queue updates
+            QueueSnapshot snapshot = controller.takeQueueSnapshot();
+            if (snapshot != null) {
+                updateQueueVisualization(snapshot);
+            }
+            pendingCustomerCount.set(-1);
             simulationStatusLabel.setText("Status: Simulation Complete");
             statusArea.setText("Simulation Complete ");
             startButton.setDisable(true);
@@ -456,21 +493,19 @@ public class SimulatorView extends Application {
     }
     /**
      * Updates the visual representation of customer queues.
-     * Draws customers in their respective queues with appropriate icons.
+     * Redraws only the customer layer; the tellers stay on the cached background layer.
+     * Must be called on the JavaFX application thread.
      *
-     * @param queueStatus Current status of all queues in the simulation
+     * @param snapshot Latest queue snapshot taken from the engine
      */
-    public void updateQueueVisualization(Map<String, List<Customer>> queueStatus) {
-        Platform.runLater(() -> {
-            if (isSimulationComplete()) {
-                return;
-            }
-            GraphicsContext gc = simulationCanvas.getGraphicsContext2D();
-            gc.clearRect(0, 0, simulationCanvas.getWidth(), simulationCanvas.getHeight());
+    public void updateQueueVisualization(QueueSnapshot snapshot) {
+        if (isSimulationComplete()) {
+            return;
+        }
+        GraphicsContext gc = simulationCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, simulationCanvas.getWidth(), simulationCanvas.getHeight());
 
-            drawBaseElements();
-            drawCustomerQueues(controller.convertQueueStatusToSigns(queueStatus));
-        });
+        drawCustomerQueues(snapshot);
     }
     /**
      * Updates the pause button text and state.
@@ -493,7 +528,7 @@ public class SimulatorView extends Application {
 
         try {
             isUpdating = true;
-            int total = 6;
+            int total = MAX_DRAWN_STATIONS;
             int currentValue, maxOtherValue, newOtherValue;
             ComboBox<String> updatingBox, otherBox;
 
@@ -531,13 +566,12 @@ public class SimulatorView extends Application {
     }
     /**
      * Updates the status display area with current customer count.
+     * May be called from any thread; the frame timer shows the latest count once per frame.
      *
      * @param totalCustomers Total number of customers served
      */
     public void updateStatusArea(int totalCustomers) {
-        Platform.runLater(() -> {
-            statusArea.setText("Simulation running...\nTotal customers served: " + totalCustomers);
-        });
+        pendingCustomerCount.set(totalCustomers);
     }
     /**
      * Updates the historical results dropdown with past simulation runs.
@@ -0,0 +1,126 @@
+package org.example.controller;
+
+import org.example.eduni.distributions.SeedGenerator;
+import org.example.framework.LatencyHistogram;
+import org.example.framework.Trace;
+import org.example.model.MyEngine;
+import org.example.model.ReplicationSummary;
+import org.example.model.SimulationConfig;
+import org.example.model.SimulationParameters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent replications of one simulation scenario in parallel, without the GUI.
+ * <p>
+ * Each replication runs a headless {@link MyEngine} with its own {@link SeedGenerator}.
+ * The replications take evenly spaced substreams of the period of the underlying
+ * generator, found by jump-ahead, so the random streams of different replications do not
+ * overlap as long as each replication stays within its share of seeds.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class ReplicationRunner {
+    /** Period of the multiplicative generator behind {@link SeedGenerator} */
+    private static final long PERIOD = 2147483646L;
+    /** Seed spacing used inside one replication, same as the default seed generator */
+    private static final int STREAM_SPACING = 100000;
+
+    private final SimulationConfig scenario;
+    private long rootSeed = 4851L;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates a runner for the given scenario.
+     *
+     * @param scenario The parameters shared by all replications
+     */
+    public ReplicationRunner(SimulationParameters scenario) {
+        this.scenario = new SimulationConfig(scenario);
+    }
+
+    /**
+     * Sets the root seed from which the replication streams are derived.
+     *
+     * @param seed The root seed, between 1 and 2<sup>31</sup>-2
+     */
+    public void setRootSeed(long seed) {
+        this.rootSeed = seed;
+    }
+
+    /**
+     * Sets the number of worker threads. Defaults to the number of available processors.
+     *
+     * @param threads The number of replications run at the same time
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Runs the replications and summarises their metrics.
+     *
+     * @param replications The number of independent replications
+     * @return Means, variances and 95% confidence intervals of every metric
+     */
+    public ReplicationSummary run(int replications) {
+        if (replications < 1) {
+            throw new IllegalArgumentException("At least one replication is required");
+        }
+        int stride = (int) (PERIOD / replications / STREAM_SPACING) * STREAM_SPACING;
+        if (stride < STREAM_SPACING) {
+            throw new IllegalArgumentException("At most " + PERIOD / STREAM_SPACING
+                    + " replications fit in the period of the random number generator");
+        }
+        long seedsPerReplication = stride / STREAM_SPACING;
+        SeedGenerator root = new SeedGenerator(rootSeed, STREAM_SPACING);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, replications));
+        try {
+            List<Future<MyEngine>> futures = new ArrayList<>();
+            for (int r = 0; r < replications; r++) {
+                SeedGenerator seeds = root.substream(r, stride);
+                int replication = r + 1;
+                futures.add(pool.submit(() -> {
+                    MyEngine engine = new MyEngine(scenario, seeds);
+                    engine.run();
+                    long drawn = engine.getContext().getSeedsDrawn();
+                    if (drawn > seedsPerReplication) {
+                        Trace.out(Trace.Level.WAR, "Replication " + replication + " drew " + drawn
+                                + " seeds, more than its share of " + seedsPerReplication + "; streams may overlap");
+                    }
+                    return engine;
+                }));
+            }
+            List<Map<String, Double>> results = new ArrayList<>();
+            Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+            for (Future<MyEngine> future : futures) {
+                MyEngine engine = future.get();
+                results.add(engine.getMetrics());
+                // histograms have a fixed layout, so pooling the tails of all replications is exact
+                for (Map.Entry<String, LatencyHistogram> entry : engine.getHistograms().entrySet()) {
+                    histograms.merge(entry.getKey(), entry.getValue(), (pooled, next) -> {
+                        pooled.add(next);
+                        return pooled;
+                    });
+                }
+            }
+            return new ReplicationSummary(results, histograms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replications interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Replication failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
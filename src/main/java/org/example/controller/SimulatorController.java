@@ -2,17 +2,15 @@ package org.example.controller;
 
 import org.example.View.SimulatorView;
 import org.example.database.DatabaseService;
-import org.example.framework.Clock;
+import org.example.framework.AsyncTraceSink;
 import org.example.framework.Trace;
-import org.example.model.Customer;
-import org.example.model.CustomerType;
 import org.example.model.MyEngine;
+import org.example.model.QueueSnapshot;
 import javafx.application.Platform;
+import org.example.model.SimulationParameters;
 import org.example.model.SimulationResult;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,9 +20,10 @@ import java.util.stream.Collectors;
  * @author Group 3
  * @version 1.0
  */
-public class SimulatorController {
+public class SimulatorController implements SimulationParameters {
     private final SimulatorView view;
-    private MyEngine engine;
+    // written on the JavaFX thread, read by the frame timer and the simulation thread
+    private volatile MyEngine engine;
     private Thread simulationThread;
     private final double simulationSpeed = 1.0;
     private int numberOfStations = 2;
@@ -64,22 +63,20 @@ public class SimulatorController {
      * Start the simulation.
      */
     public void startSimulation() {
-        Customer.resetCustomerCount();
         System.gc();
-        System.out.println("Starting simulation...");
-
-
-        Clock.getInstance().reset();
-
         Trace.setTraceLevel(Trace.Level.INFO);
-        engine = new MyEngine(this);
-        engine.setQueueUpdateListener(newStatus -> updateQueueStatus(newStatus));
-        engine.setSimulationTime(simulationTime);
+        if (!(Trace.getSink() instanceof AsyncTraceSink)) {
+            Trace.setSink(new AsyncTraceSink());
+        }
+        Trace.out(Trace.Level.INFO, "Starting simulation...");
+        MyEngine run = new MyEngine(this);
+        run.setSimulationTime(simulationTime);
+        engine = run;
 
         // Start new simulation thread
         simulationThread = new Thread(() -> {
-            System.out.println("Simulation thread starting");
-            engine.run();
+            Trace.out(Trace.Level.INFO, "Simulation thread starting");
+            run.run();
         });
 
         simulationThread.start();
@@ -138,38 +135,30 @@ public class SimulatorController {
             view.setSimulationStatus("Status: " + message);
         });
     }
-    private Map<String, List<Customer>> currentQueueStatus = new HashMap<>();
+    private QueueSnapshot currentQueueSnapshot;
     /**
-     * Update the queue status.
-     * @param newStatus The current state of all queues in the system as a map of queue names to customer lists
+     * Take the latest queue snapshot from the running engine.
+     * Called by the view once per frame, so snapshots are consumed at the frame rate rather than the event rate.
+     * @return The new snapshot, or null if there is no engine or nothing changed since the last call
      */
-    public void updateQueueStatus(Map<String, List<Customer>> newStatus) {
-        System.out.println("Controller received update: " + newStatus);
-        this.currentQueueStatus = newStatus;
-        System.out.println("Queue status updated: " + newStatus.size() + " queues");
-        Platform.runLater(() -> view.updateQueueVisualization(currentQueueStatus));
+    public QueueSnapshot takeQueueSnapshot() {
+        MyEngine current = engine;
+        if (current == null) {
+            return null;
+        }
+        QueueSnapshot snapshot = current.takeQueueSnapshot();
+        if (snapshot != null) {
+            this.currentQueueSnapshot = snapshot;
+        }
+        return snapshot;
     }
 
     /**
      * Get the queue status.
-     * @return A map containing all queues in the system, where keys are queue names and values are lists of customers in each queue
+     * @return The latest queue snapshot taken from the engine, or null if none has been taken yet
      */
-    public Map<String, List<Customer>> getQueueStatus() {
-        return currentQueueStatus;
-    }
-    /**
-     * Convert the queue status to signs.
-     * @param queueStatus The current queue status map to be converted
-     * @return A map where queue names are mapped to lists of integers (1 for transaction clients, 2 for account clients)
-     */
-    public Map<String, List<Integer>> convertQueueStatusToSigns(Map<String, List<Customer>> queueStatus) {
-        return queueStatus.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().stream()
-                                .map(customer -> customer.getType() == CustomerType.TRANSACTION_CLIENT ? 1 : 2)
-                                .collect(Collectors.toList())
-                ));
+    public QueueSnapshot getQueueSnapshot() {
+        return currentQueueSnapshot;
     }
     /**
      * Set the simulation speed.
@@ -314,6 +303,9 @@ public class SimulatorController {
     public void saveSimulationResults(String stats) {
         String timestamp = new java.sql.Timestamp(System.currentTimeMillis()).toString();
         SimulationResult result = new SimulationResult(0, timestamp, stats);
+        if (engine != null) {
+            result.setHistograms(engine.getHistograms());
+        }
         dbService.saveSimulationResult(result);
         view.updateResultsHistory();
     }
@@ -328,7 +320,7 @@ public class SimulatorController {
                 .stream()
                 .map(SimulationResult::getTimestamp)
                 .collect(Collectors.toList());
-        System.out.println("Retrieved timestamps: " + timestamps); // Debug print
+        Trace.out(Trace.Level.INFO, () -> "Retrieved timestamps: " + timestamps);
         return timestamps;
     }
     /**
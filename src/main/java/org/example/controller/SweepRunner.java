@@ -0,0 +1,444 @@
+package org.example.controller;
+
+import org.example.eduni.distributions.SeedGenerator;
+import org.example.model.MyEngine;
+import org.example.model.ParameterRange;
+import org.example.model.SimulationConfig;
+import org.example.model.SimulationParameters;
+import org.example.model.SweepResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a headless simulation for every point of a parameter sweep over the knobs the
+ * simulator controller exposes: stations, account stations, arrival interval, both service
+ * times and the client distribution.
+ * <p>
+ * The ranges are expanded into a full grid or a Latin hypercube sample. Points are run on a
+ * bounded worker pool and every result is streamed out as soon as its point finishes, to the
+ * registered listeners and to an optional CSV checkpoint file. When the checkpoint file
+ * already exists, the points recorded in it are skipped, so an interrupted sweep can be
+ * restarted with the same settings and picks up where it stopped. The first line of the file
+ * records the design, the seed, the base scenario and the ranges; a file written by a sweep
+ * with other settings, or holding a row whose parameters are not those of the point with the
+ * same index, is refused rather than resumed.
+ * <p>
+ * All points use the same root seed (common random numbers), so differences between points
+ * come from the parameters rather than from the random streams, and a point's result does not
+ * depend on the order in which points are run.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class SweepRunner {
+    /** How the parameter ranges are turned into sweep points */
+    public enum Design {
+        /** Every combination of the grid values of all ranges */
+        GRID,
+        /** A fixed number of points stratified over every range */
+        LATIN_HYPERCUBE
+    }
+
+    /**
+     * Receives sweep results as the points finish. Called from worker threads, one result at a time.
+     */
+    public interface SweepListener {
+        /**
+         * Called when a point has finished.
+         * @param result The result of the point
+         */
+        void onPointComplete(SweepResult result);
+    }
+
+    private static final String[] PARAMETER_COLUMNS = {
+            "numberOfStations", "numberOfAccountStations", "arrivalInterval",
+            "transactionServiceTime", "accountServiceTime", "clientDistribution"
+    };
+
+    private final SimulationConfig base;
+    private final ParameterRange[] ranges = new ParameterRange[PARAMETER_COLUMNS.length];
+    private final List<SweepListener> listeners = new ArrayList<>();
+    private Design design = Design.GRID;
+    private int samples = 0;
+    private long seed = 4851L;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private Path checkpointFile;
+    private BufferedWriter checkpoint;
+    private List<String> metricColumns;
+
+    /**
+     * Creates a sweep in which every parameter is fixed at its value in the base scenario.
+     *
+     * @param base The scenario providing the simulation time and the non-swept parameters
+     */
+    public SweepRunner(SimulationParameters base) {
+        this.base = new SimulationConfig(base);
+        ranges[0] = ParameterRange.of(base.getNumberOfStations());
+        ranges[1] = ParameterRange.of(base.getNumberOfAccountStations());
+        ranges[2] = ParameterRange.of(base.getArrivalInterval());
+        ranges[3] = ParameterRange.of(base.getTransactionServiceTime());
+        ranges[4] = ParameterRange.of(base.getAccountServiceTime());
+        ranges[5] = ParameterRange.of(base.getClientDistribution());
+    }
+
+    /** @param range Values for the number of transaction tellers */
+    public void setNumberOfStations(ParameterRange range) { ranges[0] = range; }
+
+    /** @param range Values for the number of account tellers */
+    public void setNumberOfAccountStations(ParameterRange range) { ranges[1] = range; }
+
+    /** @param range Values for the arrival interval in minutes */
+    public void setArrivalInterval(ParameterRange range) { ranges[2] = range; }
+
+    /** @param range Values for the transaction service time in minutes */
+    public void setTransactionServiceTime(ParameterRange range) { ranges[3] = range; }
+
+    /** @param range Values for the account service time in minutes */
+    public void setAccountServiceTime(ParameterRange range) { ranges[4] = range; }
+
+    /** @param range Values for the percentage of transaction clients */
+    public void setClientDistribution(ParameterRange range) { ranges[5] = range; }
+
+    /**
+     * Uses a full grid over the steps of every range. This is the default.
+     */
+    public void useGrid() {
+        this.design = Design.GRID;
+    }
+
+    /**
+     * Uses a Latin hypercube sample of the ranges.
+     *
+     * @param samples The number of sweep points
+     */
+    public void useLatinHypercube(int samples) {
+        this.design = Design.LATIN_HYPERCUBE;
+        this.samples = samples;
+    }
+
+    /**
+     * Sets the seed of the random streams and of the Latin hypercube sampling.
+     *
+     * @param seed The root seed, between 1 and 2<sup>31</sup>-2
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of worker threads. Defaults to the number of available processors.
+     *
+     * @param threads The number of points run at the same time
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the CSV file results are appended to. Points already recorded in it are skipped;
+     * the file must have been written by a sweep with the same settings.
+     *
+     * @param file The checkpoint file
+     */
+    public void setCheckpointFile(Path file) {
+        this.checkpointFile = file;
+    }
+
+    /**
+     * Registers a listener for results.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(SweepListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Expands the ranges into the sweep points, in index order.
+     * The expansion is deterministic for a given design and seed.
+     *
+     * @return The configuration of every point
+     */
+    public List<SimulationConfig> expand() {
+        List<SimulationConfig> points = new ArrayList<>();
+        if (design == Design.GRID) {
+            int total = 1;
+            for (ParameterRange range : ranges) {
+                total = Math.multiplyExact(total, range.getSteps());
+            }
+            double[] values = new double[ranges.length];
+            for (int index = 0; index < total; index++) {
+                int rest = index;
+                for (int d = ranges.length - 1; d >= 0; d--) {
+                    values[d] = ranges[d].valueAt(rest % ranges[d].getSteps());
+                    rest /= ranges[d].getSteps();
+                }
+                points.add(configFor(values));
+            }
+        } else {
+            Random random = new Random(seed);
+            int[][] strata = new int[ranges.length][];
+            for (int d = 0; d < ranges.length; d++) {
+                strata[d] = permutation(samples, random);
+            }
+            double[] values = new double[ranges.length];
+            for (int index = 0; index < samples; index++) {
+                for (int d = 0; d < ranges.length; d++) {
+                    double fraction = (strata[d][index] + random.nextDouble()) / samples;
+                    values[d] = ranges[d].interpolate(fraction);
+                }
+                points.add(configFor(values));
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Runs every point that is not yet recorded in the checkpoint file.
+     * Blocks until all points have finished.
+     *
+     * @return The number of points run by this call
+     * @throws IOException If the checkpoint file cannot be read or written
+     * @throws IllegalStateException If the checkpoint file belongs to a different sweep,
+     *                               or if a point fails
+     */
+    public int run() throws IOException {
+        List<SimulationConfig> points = expand();
+        Set<Integer> completed = readCheckpoint(points);
+        openCheckpoint();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        // at most two points per worker are queued, so huge sweeps do not pile up tasks
+        Semaphore slots = new Semaphore(2 * threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int submitted = 0;
+        try {
+            for (int index = 0; index < points.size() && failure.get() == null; index++) {
+                if (completed.contains(index)) {
+                    continue;
+                }
+                slots.acquire();
+                SimulationConfig config = points.get(index);
+                int pointIndex = index;
+                pool.execute(() -> {
+                    try {
+                        MyEngine engine = new MyEngine(config, new SeedGenerator(seed, 100000));
+                        engine.run();
+                        publish(new SweepResult(pointIndex, config, engine.getMetrics()));
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        slots.release();
+                    }
+                });
+                submitted++;
+            }
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+        } finally {
+            closeCheckpoint();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Sweep point failed", failure.get());
+        }
+        return submitted;
+    }
+
+    private SimulationConfig configFor(double[] values) {
+        SimulationConfig config = new SimulationConfig(base);
+        config.setNumberOfStations((int) Math.round(values[0]));
+        config.setNumberOfAccountStations((int) Math.round(values[1]));
+        config.setArrivalInterval(values[2]);
+        config.setTransactionServiceTime(values[3]);
+        config.setAccountServiceTime(values[4]);
+        config.setClientDistribution(values[5]);
+        return config;
+    }
+
+    private static int[] permutation(int n, Random random) {
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = p[i];
+            p[i] = p[j];
+            p[j] = tmp;
+        }
+        return p;
+    }
+
+    private synchronized void publish(SweepResult result) {
+        // after an interrupt the checkpoint is closed while workers may still finish;
+        // their points are not recorded and run again on restart
+        if (checkpoint != null) {
+            try {
+                writeResult(result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        for (SweepListener listener : listeners) {
+            listener.onPointComplete(result);
+        }
+    }
+
+    /**
+     * Describes the settings that decide the sweep points and their results.
+     * Written as the first line of the checkpoint file.
+     */
+    private String describe() {
+        StringBuilder line = new StringBuilder("# sweep");
+        line.append(" design=").append(design);
+        if (design == Design.LATIN_HYPERCUBE) {
+            line.append(" samples=").append(samples);
+        }
+        line.append(" seed=").append(seed)
+                .append(" simulationTime=").append(base.getSimulationTime())
+                .append(" randomSource=").append(base.getRandomSource())
+                .append(" samplingMethod=").append(base.getSamplingMethod());
+        for (int d = 0; d < ranges.length; d++) {
+            line.append(' ').append(PARAMETER_COLUMNS[d]).append('=').append(ranges[d]);
+        }
+        return line.toString();
+    }
+
+    /** The parameter columns of a checkpoint row, formatted as they are written */
+    private static String[] parameterCells(SimulationConfig c) {
+        return new String[] {
+                String.valueOf(c.getNumberOfStations()),
+                String.valueOf(c.getNumberOfAccountStations()),
+                String.valueOf(c.getArrivalInterval()),
+                String.valueOf(c.getTransactionServiceTime()),
+                String.valueOf(c.getAccountServiceTime()),
+                String.valueOf(c.getClientDistribution())
+        };
+    }
+
+    /**
+     * Reads the indices of the points recorded in the checkpoint file.
+     * Lines that do not have as many columns as the header, such as a line cut short by a
+     * crash, are ignored and their points are run again.
+     *
+     * @param points The points of this sweep, which every recorded row must match
+     * @throws IllegalStateException If the file was written by a sweep with other settings
+     */
+    private Set<Integer> readCheckpoint(List<SimulationConfig> points) throws IOException {
+        Set<Integer> completed = new HashSet<>();
+        metricColumns = null;
+        if (checkpointFile == null || !Files.exists(checkpointFile)) {
+            return completed;
+        }
+        List<String> lines = Files.readAllLines(checkpointFile, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return completed;
+        }
+        if (!lines.get(0).equals(describe())) {
+            throw new IllegalStateException("Checkpoint file " + checkpointFile
+                    + " was written by a different sweep: " + lines.get(0));
+        }
+        if (lines.size() < 2) {
+            return completed;
+        }
+        String[] header = lines.get(1).split(",");
+        metricColumns = new ArrayList<>();
+        for (int i = 1 + PARAMETER_COLUMNS.length; i < header.length; i++) {
+            metricColumns.add(header[i]);
+        }
+        for (String line : lines.subList(2, lines.size())) {
+            String[] cells = line.split(",");
+            if (cells.length != header.length) {
+                continue;
+            }
+            int index;
+            try {
+                index = Integer.parseInt(cells[0]);
+            } catch (NumberFormatException e) {
+                continue;   // damaged line, run the point again
+            }
+            if (index < 0 || index >= points.size() || !Arrays.equals(parameterCells(points.get(index)),
+                    Arrays.copyOfRange(cells, 1, 1 + PARAMETER_COLUMNS.length))) {
+                throw new IllegalStateException("Checkpoint file " + checkpointFile + " records point "
+                        + index + " with parameters other than this sweep's: " + line);
+            }
+            completed.add(index);
+        }
+        return completed;
+    }
+
+    private void openCheckpoint() throws IOException {
+        if (checkpointFile == null) {
+            return;
+        }
+        boolean empty = !Files.exists(checkpointFile) || Files.size(checkpointFile) == 0;
+        if (!empty) {
+            try (RandomAccessFile file = new RandomAccessFile(checkpointFile.toFile(), "rw")) {
+                file.seek(file.length() - 1);
+                if (file.read() != '\n') {
+                    file.write('\n');   // terminate a line cut short by a crash
+                }
+            }
+        }
+        checkpoint = Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (empty) {
+            checkpoint.write(describe() + "\n");
+            checkpoint.flush();
+        }
+    }
+
+    private void writeResult(SweepResult result) throws IOException {
+        if (metricColumns == null) {
+            metricColumns = new ArrayList<>(result.getMetrics().keySet());
+            StringBuilder header = new StringBuilder("index");
+            for (String column : PARAMETER_COLUMNS) {
+                header.append(',').append(column);
+            }
+            for (String column : metricColumns) {
+                header.append(',').append(column);
+            }
+            checkpoint.write(header.append('\n').toString());
+        }
+        StringBuilder line = new StringBuilder();
+        line.append(result.getIndex());
+        for (String cell : parameterCells(result.getConfig())) {
+            line.append(',').append(cell);
+        }
+        Map<String, Double> metrics = result.getMetrics();
+        for (String column : metricColumns) {
+            line.append(',').append(metrics.getOrDefault(column, Double.NaN));
+        }
+        checkpoint.write(line.append('\n').toString());
+        checkpoint.flush();
+    }
+
+    private synchronized void closeCheckpoint() throws IOException {
+        if (checkpoint != null) {
+            checkpoint.close();
+            checkpoint = null;
+        }
+    }
+}
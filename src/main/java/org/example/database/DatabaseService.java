@@ -24,6 +24,7 @@ public class DatabaseService {
     }
     /**
      * Save the simulation result to the database.
+     * Its latency histograms are stored in a section appended to the results text.
      * @param result The simulation result to save
      */
     public void saveSimulationResult(SimulationResult result) {
@@ -31,7 +32,7 @@ public class DatabaseService {
             String sql = "INSERT INTO simulation_results (timestamp, results) VALUES (?, ?)";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setString(1, result.getTimestamp());
-                stmt.setString(2, result.getResults());
+                stmt.setString(2, result.toStoredText());
                 stmt.executeUpdate();
                 System.out.println("Saved results: " + result.getResults());
             }
@@ -40,7 +41,7 @@ public class DatabaseService {
         }
     }
     /**
-     * Retrieve all simulation results from the database.
+     * Retrieve all simulation results from the database, with their latency histograms.
      * @return A list of simulation results
      */
     public List<SimulationResult> getSimulationResults() {
@@ -50,7 +51,7 @@ public class DatabaseService {
             try (Statement stmt = conn.createStatement();
                  ResultSet rs = stmt.executeQuery(sql)) {
                 while (rs.next()) {
-                    results.add(new SimulationResult(
+                    results.add(SimulationResult.fromStoredText(
                             rs.getInt("id"),
                             rs.getString("timestamp"),
                             rs.getString("results")
@@ -30,6 +30,18 @@ public class Bernoulli extends Generator implements DiscreteGenerator {
 	set(prob);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param prob The probability of success
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Bernoulli(double prob, ContinuousGenerator source) {
+	super(source);
+	set(prob);
+    }
+
     private void set(double prob) throws ParameterException {
 	if ((prob < 0.0) || (prob > 1.0))
 	    throw new ParameterException("Bernouilli: The probability of success must be between 0 and 1.");
@@ -42,6 +54,12 @@ public class Bernoulli extends Generator implements DiscreteGenerator {
      */
     public long sample() { return distrib.bernoulli(prob); }
 
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(long[] out, int off, int len) { distrib.bernoulli(prob, out, off, len); }
+
     public String toString() { return "Bernoulli("+prob+")"; }
 }
 
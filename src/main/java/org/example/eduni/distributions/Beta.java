@@ -32,6 +32,19 @@ public class Beta extends Generator implements ContinuousGenerator {
 	set(shape_a, shape_b);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param shape_a The a shape parameter of the distribution
+     * @param shape_b The b shape parameter of the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Beta(double shape_a, double shape_b, ContinuousGenerator source) {
+	super(source);
+	set(shape_a, shape_b);
+    }
+
     private void set(double shape_a, double shape_b) {
 	if ((shape_a <= 0.0) || (shape_b <= 0.0))
 	    throw new ParameterException("Beta: The shape parameters must be greater than 0.");
@@ -28,6 +28,18 @@ public class BetaPrime extends Beta {
 	super(shape_a, shape_b, seed);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param shape_a The a shape parameter of the distribution
+     * @param shape_b The b shape parameter of the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public BetaPrime(double shape_a, double shape_b, ContinuousGenerator source) {
+	super(shape_a, shape_b, source);
+    }
+
   /**
    * Generate a new random number.
    * @return The next random number in the sequence
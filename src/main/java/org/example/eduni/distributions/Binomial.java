@@ -33,6 +33,19 @@ public class Binomial extends Generator implements DiscreteGenerator {
 	set(prob, trials);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param prob The probability of success
+     * @param trials The number of trials
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Binomial(double prob, int trials, ContinuousGenerator source) {
+	super(source);
+	set(prob, trials);
+    }
+
     private void set(double prob, int trials) {
 	if (prob <= 0.0)
 	    throw new ParameterException("Binomial: The probability of success must be between 0 and 1.");
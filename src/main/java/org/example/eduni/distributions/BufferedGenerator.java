@@ -0,0 +1,63 @@
+package org.example.eduni.distributions;
+
+/**
+ * A continuous generator that draws the samples of another one a block at a time.
+ * <p>
+ * {@link #sample()} reads the next number of a buffer, which is refilled by one call to
+ * the bulk <code>sample(double[], int, int)</code> of the wrapped generator when it runs out.
+ * The sequence is the one the wrapped generator would give, but the call through the
+ * interface and the branch on the sampling method are paid once per block instead of once
+ * per sample. The wrapped generator must not be sampled directly while it is buffered;
+ * setting its seed through this object discards the numbers still in the buffer.
+ */
+public class BufferedGenerator implements ContinuousGenerator {
+    /** The number of samples drawn at a time unless given otherwise */
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+    private final ContinuousGenerator generator;
+    private final double[] block;
+    // index of the next unread sample in block
+    private int next;
+
+    /** @param generator The generator whose samples are buffered */
+    public BufferedGenerator(ContinuousGenerator generator) {
+	this(generator, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param generator The generator whose samples are buffered
+     * @param blockSize The number of samples drawn at a time
+     */
+    public BufferedGenerator(ContinuousGenerator generator, int blockSize) {
+	if (blockSize < 1)
+	    throw new ParameterException("BufferedGenerator: The block size must be at least 1.");
+	this.generator = generator;
+	this.block = new double[blockSize];
+	this.next = blockSize;
+    }
+
+    /** @return The generator whose samples are buffered */
+    public ContinuousGenerator getGenerator() { return generator; }
+
+    // ----- implements ContinuousGenerator { -----
+    public double sample() {
+	if (next == block.length) {
+	    generator.sample(block, 0, block.length);
+	    next = 0;
+	}
+	return block[next++];
+    }
+
+    public void sample(double[] out, int off, int len) {
+	int buffered = Math.min(len, block.length - next);
+	System.arraycopy(block, next, out, off, buffered);
+	next += buffered;
+	generator.sample(out, off + buffered, len - buffered);
+    }
+    // ----- } implements ContinuousGenerator -----
+
+    // ----- implements Seedable { -----
+    public void setSeed(long seed) { generator.setSeed(seed); next = block.length; }
+    public long getSeed() { return generator.getSeed(); }
+    public void reseed() { generator.reseed(); next = block.length; }
+    // ----- } implements Seedable -----
+}
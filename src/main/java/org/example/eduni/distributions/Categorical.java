@@ -0,0 +1,108 @@
+package org.example.eduni.distributions;
+
+/**
+ * A random number generator for a categorical distribution: category <code>i</code>
+ * is drawn with probability <code>weights[i] / sum(weights)</code>.
+ * <p>
+ * Uses Walker's alias method with Vose's stable construction (1991). The tables are
+ * built once in O(n); every sample then costs one uniform, one multiplication and at
+ * most two table reads, whatever the number of categories, and allocates nothing.
+ * The uniform is split in two: its integer part picks a column of the table and its
+ * fraction decides between the column's own category and its alias.
+ */
+public class Categorical extends Generator implements DiscreteGenerator {
+    /** Probability of keeping the column's own category, per column */
+    private double[] prob;
+    /** The category taken instead, per column */
+    private int[] alias;
+
+    /**
+     * the seed is automatically provided by the <code>SeedGenerator</code>
+     * @param weights The relative weights of the categories; non-negative, not all 0
+     */
+    public Categorical(double[] weights) {
+	super();
+	set(weights);
+    }
+
+    /**
+     * The constructor with which a specific seed is set for the random
+     * number generator
+     * @param weights The relative weights of the categories; non-negative, not all 0
+     * @param seed The initial seed for the generator, two instances with
+     *             the same seed will generate the same sequence of numbers
+     */
+    public Categorical(double[] weights, long seed) {
+	super(seed);
+	set(weights);
+    }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param weights The relative weights of the categories; non-negative, not all 0
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Categorical(double[] weights, ContinuousGenerator source) {
+	super(source);
+	set(weights);
+    }
+
+    private void set(double[] weights) {
+	int n = weights.length;
+	double sum = 0;
+	for (double w : weights) {
+	    if (!(w >= 0) || Double.isInfinite(w))
+		throw new ParameterException("Categorical: The weights must be finite and non-negative.");
+	    sum += w;
+	}
+	if (n == 0 || sum <= 0)
+	    throw new ParameterException("Categorical: At least one weight must be greater than 0.");
+	prob = new double[n];
+	alias = new int[n];
+	// scale so that the average column holds exactly 1, then pair small columns with large ones
+	double[] scaled = new double[n];
+	int[] small = new int[n], large = new int[n];
+	int smallCount = 0, largeCount = 0;
+	for (int i = 0; i < n; i++) {
+	    scaled[i] = weights[i] * n / sum;
+	    if (scaled[i] < 1.0) small[smallCount++] = i;
+	    else large[largeCount++] = i;
+	}
+	while (smallCount > 0 && largeCount > 0) {
+	    int s = small[--smallCount], l = large[--largeCount];
+	    prob[s] = scaled[s];
+	    alias[s] = l;
+	    scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+	    if (scaled[l] < 1.0) small[smallCount++] = l;
+	    else large[largeCount++] = l;
+	}
+	// what is left is 1 up to rounding
+	while (largeCount > 0) {
+	    int l = large[--largeCount];
+	    prob[l] = 1.0;
+	    alias[l] = l;
+	}
+	while (smallCount > 0) {
+	    int s = small[--smallCount];
+	    prob[s] = 1.0;
+	    alias[s] = s;
+	}
+    }
+
+    /** @return The number of categories */
+    public int size() { return prob.length; }
+
+    /**
+     * Generate a new random number.
+     * @return The index of the category drawn, from 0 to <code>size()-1</code>
+     */
+    public long sample() {
+	double u = distrib.source.sample() * prob.length;
+	int column = (int) u;
+	// a sample of exactly 1 would fall one column too far
+	if (column == prob.length) column--;
+	return (u - column) < prob[column] ? column : alias[column];
+    }
+}
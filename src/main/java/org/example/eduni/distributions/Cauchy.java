@@ -31,6 +31,19 @@ public class Cauchy extends Generator implements ContinuousGenerator {
 	super(seed);
 	set(median, scale);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param median The median of the distribution
+     * @param scale The scale of the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Cauchy(double median, double scale, ContinuousGenerator source) {
+	super(source);
+	set(median, scale);
+    }
     
     private void set(double median, double scale) {
 	if (scale <= 0.0)
@@ -44,4 +57,10 @@ public class Cauchy extends Generator implements ContinuousGenerator {
      * @return The next random number in the sequence
      */
     public double sample() { return distrib.cauchy(median, scale); }
+
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(double[] out, int off, int len) { distrib.cauchy(median, scale, out, off, len); }
 }
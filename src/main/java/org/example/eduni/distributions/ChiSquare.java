@@ -29,6 +29,18 @@ public class ChiSquare extends Generator implements ContinuousGenerator {
 	super(seed);
 	set(deg_freedom);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param deg_freedom The degrees of freedom for the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public ChiSquare(long deg_freedom, ContinuousGenerator source) {
+	super(source);
+	set(deg_freedom);
+    }
     
     private void set(long deg_freedom) {
 	if (deg_freedom <= 0L)
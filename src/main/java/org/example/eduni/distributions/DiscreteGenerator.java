@@ -4,4 +4,16 @@ package org.example.eduni.distributions;
  */
 public interface DiscreteGenerator extends Seedable {
     long sample(); 
+
+    /** Stores the next <code>len</code> samples in <code>out[off]</code> to <code>out[off+len-1]</code>;
+     * they are the numbers <code>len</code> calls to {@link #sample()} would return.
+     * Generators override it with a loop specialized to their distribution.
+     * @param out The array the samples are stored in
+     * @param off The index of the first sample
+     * @param len The number of samples
+     */
+    default void sample(long[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = sample();
+    }
 }
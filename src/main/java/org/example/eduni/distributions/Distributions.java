@@ -8,6 +8,8 @@ public class Distributions {
     /** A reference to the internal random generator.
      */
     ContinuousGenerator source;
+    /** The algorithms used, legacy unless set otherwise */
+    SamplingMethod method = SamplingMethod.LEGACY;
     
     /** The seed is automatically provided by a well-spaced <code>SeedGenerator</code>
      */
@@ -19,16 +21,24 @@ public class Distributions {
      */
     public Distributions(ContinuousGenerator gen) { source = gen; }
 
+    /** @param method The algorithms used by this object from now on */
+    public void setSamplingMethod(SamplingMethod method) { this.method = method; }
+    /** @return The algorithms used by this object */
+    public SamplingMethod getSamplingMethod() { return method; }
+
     // discrete eduni.distributions
     /** computes a Bernoulli's distribution
      * @return 1 iif <i>sample</i> &le; prob, 0 otherwise; <i>sample</i> is provided by the PRGN
      */
     public long bernoulli(double prob) { return source.sample()<=prob?1:0; }
 
-    /** computes a binomial distribution
+    /** computes a binomial distribution; with the FAST sampling method by inversion,
+     * or by BTPE when trials*min(prob, 1-prob) &gt; 30
      * @return &sum;(i=0; i&lt;trials-1; bernoulli(prob))
      */
     public long binomial(double prob, int trials) {
+	if (method == SamplingMethod.FAST)
+	    return binomialFast(prob, trials);
 	long sum = 0l;
 	for (int i=0; i<trials; i++) sum += bernoulli(prob);
 	return sum;
@@ -41,20 +51,28 @@ public class Distributions {
 	return (long)Math.ceil(Math.log(source.sample()) / Math.log(1.0-prob));
     }
 
-    /** computes a Pascal's distribution
+    /** computes a Pascal's distribution; with the FAST sampling method and at least
+     * 10 successes as a Poisson distribution whose mean follows a gamma distribution
      * @return &sum;(i=0; i&lt;successes; geometric(prob))
      */
     public long pascal(double prob, int successes) {
+	if (method == SamplingMethod.FAST && successes >= PASCAL_MIXTURE_SUCCESSES && prob > 0.0 && prob < 1.0)
+	    // the number of failures before the last success is negative binomial,
+	    // a Poisson mixture with a gamma(successes, (1-prob)/prob) mean
+	    return successes + poissonFast(gammaFast((1.0-prob)/prob, successes));
 	long sum = 0L;
 	for (int i=0; i < successes; i++)
 	    sum += geometric(prob);
 	return sum;
     }
 
-    /** computes a poisson distribution
+    /** computes a poisson distribution; with the FAST sampling method by inversion,
+     * or by PTRS when mean &ge; 10
      * @return the smallest integer x so as &prod;(i=0; i&lt;x; <i>sample</i>) &le; exp(-mean) 
      */
     public long poisson(double mean) {
+	if (method == SamplingMethod.FAST)
+	    return poissonFast(mean);
 	long x = -1L;
 	double m = Math.exp(-mean), product=1;
 	do {
@@ -124,10 +142,13 @@ public class Distributions {
 	return median + scale/Math.tan(Math.PI*source.sample());
     }
 
-    /** computes a chisquare distribution
+    /** computes a chisquare distribution. The legacy method sums normal variates without
+     * squaring them; the FAST method samples the chi-square distribution as gamma(2, deg_freedom/2).
      * @return &sum;(i=0; i&lt;deg_freedom; normal(0,1))
      */
     public double chisquare(long deg_freedom) {
+	if (method == SamplingMethod.FAST)
+	    return gammaFast(2.0, deg_freedom / 2.0);
 	// use normal2 because sqrt(1)=1
 	double result = 0.0;
 	for (long i=0L; i < deg_freedom; i++)
@@ -135,10 +156,12 @@ public class Distributions {
 	return result;
     }
     
-    /** computes an Erlang's distribution
+    /** computes an Erlang's distribution; with the FAST sampling method as gamma(scale, shape)
      * @return -scale * log ( &prod;(i=0; i&lt;shape; <i>sample</i>) ); <i>sample</i> is provided by the PRGN
      */
     public double erlang(double scale, double shape) {
+	if (method == SamplingMethod.FAST)
+	    return gammaFast(scale, shape);
 	double product = 1.0;
 	for (int i=0; i<shape; i++)
 	    product *= source.sample();
@@ -153,9 +176,12 @@ public class Distributions {
 	    / (chisquare(den_deg_freedom)/den_deg_freedom);
     }
 
-    /** computes a gamma distribution
+    /** computes a gamma distribution; with the FAST sampling method by the method of
+     * Marsaglia and Tsang unless the shape is a small integer
      */
     public double gamma(double scale, double shape) {
+	if (method == SamplingMethod.FAST)
+	    return gammaFast(scale, shape);
 	if (shape == Math.floor(shape)) {
 	    // The shape is an integer
 	    double product = 1.0;
@@ -203,10 +229,12 @@ public class Distributions {
 	return Math.exp(mean+std_dev*normal2(0.0, 1.0));
     }
 
-    /** computes a negexp distribution
+    /** computes a negexp distribution, with the Ziggurat method when the sampling method is FAST
      * @return -mean * log (<i>sample</i>);  where <i>sample</i> is provided by the PRGN
      */
     public double negexp(double mean) {
+	if (method == SamplingMethod.FAST)
+	    return mean * zigguratExponential();
 	return -mean * Math.log(source.sample());
     }
     
@@ -217,11 +245,14 @@ public class Distributions {
 	return normal2(mean, Math.sqrt(variance));
     }
 
-    /** computes a normal distribution; <i>sample</i> are provided by the same PRGN
+    /** computes a normal distribution; <i>sample</i> are provided by the same PRGN.
+     * Uses the Ziggurat method when the sampling method is FAST.
      * @param std_dev is assumed to be the square root of the variance.
      * @return mean + std_dev * cos (2&Pi; * <i>sample</i>) * &radic;(-2 * log (<i>sample</i>))
      */
     public double normal2(double mean, double std_dev) {
+	if (method == SamplingMethod.FAST)
+	    return mean + std_dev * zigguratNormal();
 	double u1 = source.sample(), u2 = source.sample();
 	return mean + std_dev * Math.cos(2 * Math.PI * u1) * Math.sqrt(-2 * Math.log(u2));
     }
@@ -248,11 +279,415 @@ public class Distributions {
 	return (max-min) * source.sample() + min;
     }
 
-    /** computes a weibull distribution; <i>sample</i> is provided by the PRGN
-     * @return scale * (<i>sample</i> ^ (1/shape))
+    /** computes a weibull distribution; <i>sample</i> is provided by the PRGN. The legacy
+     * method raises log(<i>sample</i>) &lt; 0 to the power 1/shape, which is NaN unless 1/shape
+     * is an integer; the FAST method takes the power of a Ziggurat exponential variate.
+     * @return scale * (log(<i>sample</i>) ^ (1/shape))
      */
     public double weibull(double scale, double shape) {
+	if (method == SamplingMethod.FAST)
+	    return scale * Math.pow(zigguratExponential(), 1/shape);
 	return scale * Math.pow(Math.log(source.sample()), 1/shape);
     }
-}
 
+    // ----- Bulk sampling -----
+    // Each method stores len samples from out[off] on, the same numbers as len calls
+    // to its scalar version. Where a sample takes exactly one uniform, the block is
+    // first filled with uniforms by the PRGN and then transformed in place, two plain
+    // loops over one array that the JIT compiles without calls between samples.
+
+    /** fills a block with negexp samples, see {@link #negexp(double)} */
+    public void negexp(double mean, double[] out, int off, int len) {
+	if (method == SamplingMethod.FAST) {
+	    for (int i = off; i < off + len; i++)
+		out[i] = mean * zigguratExponential();
+	    return;
+	}
+	source.sample(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = -mean * Math.log(out[i]);
+    }
+
+    /** fills a block with normal samples, see {@link #normal2(double, double)} */
+    public void normal2(double mean, double std_dev, double[] out, int off, int len) {
+	if (method == SamplingMethod.FAST) {
+	    for (int i = off; i < off + len; i++)
+		out[i] = mean + std_dev * zigguratNormal();
+	    return;
+	}
+	for (int i = off; i < off + len; i++) {
+	    double u1 = source.sample(), u2 = source.sample();
+	    out[i] = mean + std_dev * Math.cos(2 * Math.PI * u1) * Math.sqrt(-2 * Math.log(u2));
+	}
+    }
+
+    /** fills a block with lognormal samples, see {@link #lognormal2(double, double)} */
+    public void lognormal2(double mean, double std_dev, double[] out, int off, int len) {
+	normal2(0.0, 1.0, out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = Math.exp(mean+std_dev*out[i]);
+    }
+
+    /** fills a block with uniform samples, see {@link #uniform(double, double)} */
+    public void uniform(double min, double max, double[] out, int off, int len) {
+	source.sample(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = (max-min) * out[i] + min;
+    }
+
+    /** fills a block with Cauchy samples, see {@link #cauchy(double, double)} */
+    public void cauchy(double median, double scale, double[] out, int off, int len) {
+	source.sample(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = median + scale/Math.tan(Math.PI*out[i]);
+    }
+
+    /** fills a block with logistic samples, see {@link #logistic(double, double)} */
+    public void logistic(double location, double scale, double[] out, int off, int len) {
+	source.sample(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = location-scale*Math.log((1/out[i])-1);
+    }
+
+    /** fills a block with pareto samples, see {@link #pareto(double, double)} */
+    public void pareto(double scale, double shape, double[] out, int off, int len) {
+	source.sample(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = scale / Math.pow(out[i], 1/shape);
+    }
+
+    /** fills a block with Bernoulli samples, see {@link #bernoulli(double)} */
+    public void bernoulli(double prob, long[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = source.sample()<=prob?1:0;
+    }
+
+    // ----- Constant expected time methods for large parameters -----
+    // Selected by the FAST sampling method above the thresholds below, where the
+    // legacy loops would take time proportional to the parameter. Their setup
+    // constants are kept for the last parameters, since a generator samples one
+    // distribution over and over.
+
+    /** Mean from which Poisson variates are drawn by PTRS instead of inversion */
+    private static final double PTRS_MEAN = 10.0;
+    /** Value of trials*min(prob, 1-prob) above which binomial variates are drawn by BTPE */
+    private static final double BTPE_MEAN = 30.0;
+    /** Integer gamma shapes below this are drawn as a product of uniforms */
+    private static final double GAMMA_PRODUCT_SHAPE = 4.0;
+    /** Number of successes from which Pascal variates are drawn as a Poisson-gamma mixture */
+    private static final int PASCAL_MIXTURE_SUCCESSES = 10;
+
+    private double ptrsMean = Double.NaN;
+    private double ptrsLogMean, ptrsA, ptrsB, ptrsLogInvAlpha, ptrsVr;
+
+    private int btpeTrials = -1;
+    private double btpeProb = Double.NaN;
+    private double btpeR, btpeQ, btpeNrq, btpeFm, btpeP1, btpeXm, btpeXl, btpeXr, btpeC;
+    private double btpeLaml, btpeLamr, btpeP2, btpeP3, btpeP4;
+    private long btpeM;
+
+    private long poissonFast(double mean) {
+	if (mean >= PTRS_MEAN)
+	    return poissonPtrs(mean);
+	// inversion by sequential search, one uniform per variate
+	for (;;) {
+	    double u = source.sample(), p = Math.exp(-mean), cumulative = p;
+	    long x = 0;
+	    while (u > cumulative && p > 0.0) {
+		x++;
+		p *= mean / x;
+		cumulative += p;
+	    }
+	    // p only underflows when rounding left u above the total probability
+	    if (p > 0.0) return x;
+	}
+    }
+
+    /** Poisson variate by transformed rejection with squeeze, PTRS (Hoermann, 1993) */
+    private long poissonPtrs(double mean) {
+	if (mean != ptrsMean) {
+	    ptrsMean = mean;
+	    ptrsLogMean = Math.log(mean);
+	    ptrsB = 0.931 + 2.53 * Math.sqrt(mean);
+	    ptrsA = -0.059 + 0.02483 * ptrsB;
+	    ptrsLogInvAlpha = Math.log(1.1239 + 1.1328 / (ptrsB - 3.4));
+	    ptrsVr = 0.9277 - 3.6224 / (ptrsB - 2);
+	}
+	for (;;) {
+	    double u = source.sample() - 0.5;
+	    double v = source.sample();
+	    double us = 0.5 - Math.abs(u);
+	    long k = (long) Math.floor((2 * ptrsA / us + ptrsB) * u + mean + 0.43);
+	    if (us >= 0.07 && v <= ptrsVr)
+		return k;
+	    if (k < 0 || (us < 0.013 && v > us))
+		continue;
+	    if (Math.log(v) + ptrsLogInvAlpha - Math.log(ptrsA / (us * us) + ptrsB)
+		<= -mean + k * ptrsLogMean - logGamma(k + 1))
+		return k;
+	}
+    }
+
+    private long binomialFast(double prob, int trials) {
+	if (prob >= 1.0)
+	    return trials;
+	double r = Math.min(prob, 1.0 - prob);
+	long y = trials * r > BTPE_MEAN ? binomialBtpe(r, trials) : binomialInversion(r, trials);
+	return prob > 0.5 ? trials - y : y;
+    }
+
+    /** Binomial variate with prob &le; 0.5 by inversion, in expected time O(trials*prob) */
+    private long binomialInversion(double prob, int trials) {
+	double q = 1.0 - prob, qn = Math.exp(trials * Math.log(q));
+	double np = trials * prob;
+	long bound = (long) Math.min(trials, np + 10.0 * Math.sqrt(np * q + 1));
+	long x = 0;
+	double px = qn, u = source.sample();
+	while (u > px) {
+	    x++;
+	    if (x > bound) {
+		// past any probable value: rounding, start again
+		x = 0;
+		px = qn;
+		u = source.sample();
+	    } else {
+		u -= px;
+		px = ((trials - x + 1) * prob * px) / (x * q);
+	    }
+	}
+	return x;
+    }
+
+    /** Binomial variate with prob &le; 0.5 by BTPE (Kachitvichyanukul and Schmeiser, 1988) */
+    private long binomialBtpe(double prob, int n) {
+	if (n != btpeTrials || prob != btpeProb) {
+	    btpeTrials = n;
+	    btpeProb = prob;
+	    btpeR = prob;
+	    btpeQ = 1.0 - prob;
+	    btpeNrq = n * btpeR * btpeQ;
+	    btpeFm = n * btpeR + btpeR;
+	    btpeM = (long) Math.floor(btpeFm);
+	    btpeP1 = Math.floor(2.195 * Math.sqrt(btpeNrq) - 4.6 * btpeQ) + 0.5;
+	    btpeXm = btpeM + 0.5;
+	    btpeXl = btpeXm - btpeP1;
+	    btpeXr = btpeXm + btpeP1;
+	    btpeC = 0.134 + 20.5 / (15.3 + btpeM);
+	    double a = (btpeFm - btpeXl) / (btpeFm - btpeXl * btpeR);
+	    btpeLaml = a * (1.0 + a / 2.0);
+	    a = (btpeXr - btpeFm) / (btpeXr * btpeQ);
+	    btpeLamr = a * (1.0 + a / 2.0);
+	    btpeP2 = btpeP1 * (1.0 + 2.0 * btpeC);
+	    btpeP3 = btpeP2 + btpeC / btpeLaml;
+	    btpeP4 = btpeP3 + btpeC / btpeLamr;
+	}
+	double r = btpeR, q = btpeQ, nrq = btpeNrq;
+	long m = btpeM;
+	for (;;) {
+	    double u = source.sample() * btpeP4;
+	    double v = source.sample();
+	    long y;
+	    if (u <= btpeP1) {
+		// triangular centre: accepted at once
+		return (long) Math.floor(btpeXm - btpeP1 * v + u);
+	    } else if (u <= btpeP2) {
+		// parallelograms
+		double x = btpeXl + (u - btpeP1) / btpeC;
+		v = v * btpeC + 1.0 - Math.abs(m - x + 0.5) / btpeP1;
+		if (v > 1.0) continue;
+		y = (long) Math.floor(x);
+	    } else if (u <= btpeP3) {
+		// left exponential tail
+		y = (long) Math.floor(btpeXl + Math.log(v) / btpeLaml);
+		if (y < 0 || v == 0.0) continue;
+		v = v * (u - btpeP2) * btpeLaml;
+	    } else {
+		// right exponential tail
+		y = (long) Math.floor(btpeXr - Math.log(v) / btpeLamr);
+		if (y > n || v == 0.0) continue;
+		v = v * (u - btpeP3) * btpeLamr;
+	    }
+	    long k = Math.abs(y - m);
+	    if (k <= 20 || k >= nrq / 2.0 - 1) {
+		// evaluate f(y)/f(m) by recursion
+		double s = r / q, a = s * (n + 1), f = 1.0;
+		if (m < y)
+		    for (long i = m + 1; i <= y; i++) f *= (a / i - s);
+		else if (m > y)
+		    for (long i = y + 1; i <= m; i++) f /= (a / i - s);
+		if (v > f) continue;
+		return y;
+	    }
+	    // squeeze on log f(y)/f(m), then the bound from Stirling's formula
+	    double rho = (k / nrq) * ((k * (k / 3.0 + 0.625) + 0.16666666666666666) / nrq + 0.5);
+	    double t = -k * k / (2 * nrq);
+	    double logV = Math.log(v);
+	    if (logV < t - rho) return y;
+	    if (logV > t + rho) continue;
+	    double x1 = y + 1, f1 = m + 1, z = n + 1 - m, w = n - y + 1;
+	    if (logV > btpeXm * Math.log(f1 / x1) + (n - m + 0.5) * Math.log(z / w)
+		+ (y - m) * Math.log(w * r / (x1 * q))
+		+ stirlingCorrection(f1) + stirlingCorrection(z) + stirlingCorrection(x1) + stirlingCorrection(w))
+		continue;
+	    return y;
+	}
+    }
+
+    private static double stirlingCorrection(double x) {
+	double x2 = x * x;
+	return (13680. - (462. - (132. - (99. - 140. / x2) / x2) / x2) / x2) / x / 166320.;
+    }
+
+    /** Gamma variate with the given scale and shape */
+    private double gammaFast(double scale, double shape) {
+	if (shape < GAMMA_PRODUCT_SHAPE && shape == Math.floor(shape)) {
+	    double product = 1.0;
+	    for (int i = 0; i < shape; i++)
+		product *= source.sample();
+	    return -scale * Math.log(product);
+	}
+	if (shape < 1.0)
+	    // boost: gamma(shape) = gamma(shape+1) * U^(1/shape)
+	    return scale * marsagliaTsang(shape + 1.0) * Math.pow(source.sample(), 1.0 / shape);
+	return scale * marsagliaTsang(shape);
+    }
+
+    /** Standard gamma variate with shape &ge; 1 (Marsaglia and Tsang, 2000) */
+    private double marsagliaTsang(double shape) {
+	double d = shape - 1.0 / 3.0, c = 1.0 / Math.sqrt(9.0 * d);
+	for (;;) {
+	    double x, v;
+	    do {
+		x = zigguratNormal();
+		v = 1.0 + c * x;
+	    } while (v <= 0.0);
+	    v = v * v * v;
+	    double u = source.sample();
+	    double x2 = x * x;
+	    if (u < 1.0 - 0.0331 * x2 * x2)
+		return d * v;
+	    if (Math.log(u) < 0.5 * x2 + d * (1.0 - v + Math.log(v)))
+		return d * v;
+	}
+    }
+
+    /** @return log(&Gamma;(x)), by Stirling's series after shifting x to at least 7 */
+    static double logGamma(double x) {
+	if (x == 1.0 || x == 2.0)
+	    return 0.0;
+	int n = x < 7.0 ? (int) (7 - x) : 0;
+	double x0 = x + n, x2 = 1.0 / (x0 * x0);
+	double series = -1.39243221690590e+00;
+	double[] a = LOG_GAMMA_SERIES;
+	for (int k = a.length - 1; k >= 0; k--)
+	    series = series * x2 + a[k];
+	double result = series / x0 + 0.5 * 1.8378770664093453 + (x0 - 0.5) * Math.log(x0) - x0;
+	for (int k = 1; k <= n; k++) {
+	    x0 -= 1.0;
+	    result -= Math.log(x0);
+	}
+	return result;
+    }
+
+    private static final double[] LOG_GAMMA_SERIES = {
+	8.333333333333333e-02, -2.777777777777778e-03, 7.936507936507937e-04, -5.952380952380952e-04,
+	8.417508417508418e-04, -1.917526917526918e-03, 6.410256410256410e-03, -2.955065359477124e-02,
+	1.796443723688307e-01 };
+
+    // ----- Ziggurat method (Marsaglia and Tsang, 2000) -----
+    // The density is covered by layers of equal area V: a base strip with the tail
+    // beyond R, and rectangles from 0 to ZIG_X[i]. A layer is picked at random and a point
+    // drawn in it; if the point lies in the part of the rectangle that is certainly under
+    // the density (x < ZIG_X[i+1]) it is accepted with one comparison, which happens
+    // about 99% of the time. Otherwise the density is evaluated, or the tail is sampled.
+    // Tables and the acceptance test follow Doornik's ZIGNOR (2005), which avoids the
+    // correlation of the original between the layer index and the value.
+
+    private static final int NORMAL_LAYERS = 128;
+    private static final double NORMAL_R = 3.442619855899;
+    private static final double NORMAL_V = 9.91256303526217e-3;
+    private static final double[] NORMAL_X = new double[NORMAL_LAYERS + 1];
+    private static final double[] NORMAL_RATIO = new double[NORMAL_LAYERS];
+    private static final int EXP_LAYERS = 256;
+    private static final double EXP_R = 7.69711747013104972;
+    private static final double EXP_V = 3.949659822581572e-3;
+    private static final double[] EXP_X = new double[EXP_LAYERS + 1];
+    private static final double[] EXP_RATIO = new double[EXP_LAYERS];
+    static {
+	double f = Math.exp(-0.5 * NORMAL_R * NORMAL_R);
+	NORMAL_X[0] = NORMAL_V / f;
+	NORMAL_X[1] = NORMAL_R;
+	for (int i = 2; i < NORMAL_LAYERS; i++) {
+	    NORMAL_X[i] = Math.sqrt(-2 * Math.log(NORMAL_V / NORMAL_X[i-1] + f));
+	    f = Math.exp(-0.5 * NORMAL_X[i] * NORMAL_X[i]);
+	}
+	for (int i = 0; i < NORMAL_LAYERS; i++)
+	    NORMAL_RATIO[i] = NORMAL_X[i+1] / NORMAL_X[i];
+
+	f = Math.exp(-EXP_R);
+	EXP_X[0] = EXP_V / f;
+	EXP_X[1] = EXP_R;
+	for (int i = 2; i < EXP_LAYERS; i++) {
+	    EXP_X[i] = -Math.log(EXP_V / EXP_X[i-1] + f);
+	    f = Math.exp(-EXP_X[i]);
+	}
+	for (int i = 0; i < EXP_LAYERS; i++)
+	    EXP_RATIO[i] = EXP_X[i+1] / EXP_X[i];
+    }
+
+    /** @return Random bits for one Ziggurat step: the layer index is taken from the lowest bits and
+     * the uniform from the highest. A 64-bit source gives them whole; with another source one
+     * sample is spread over both, since a second sample would cost more than the method saves.
+     */
+    private long randomBits() {
+	if (source instanceof SplittableSource)
+	    return ((SplittableSource) source).nextLong();
+	// rotate the top bits of the sample down into the index and the rest up into the uniform
+	return Long.rotateLeft((long) (source.sample() * 0x1.0p63), 9);
+    }
+
+    /** @return A standard normal variate, from the 128-layer Ziggurat */
+    private double zigguratNormal() {
+	for (;;) {
+	    long bits = randomBits();
+	    int i = (int) bits & (NORMAL_LAYERS - 1);
+	    // the upper 53 bits give u uniform in (-1, 1), independent of the layer
+	    double u = ((bits >>> 11) + 0.5) * 0x1.0p-52 - 1.0;
+	    if (Math.abs(u) < NORMAL_RATIO[i])
+		return u * NORMAL_X[i];
+	    if (i == 0) {
+		// tail beyond R (Marsaglia, 1964)
+		double x, y;
+		do {
+		    x = Math.log(source.sample()) / NORMAL_R;
+		    y = Math.log(source.sample());
+		} while (-2 * y < x * x);
+		return u < 0 ? x - NORMAL_R : NORMAL_R - x;
+	    }
+	    double x = u * NORMAL_X[i];
+	    double f0 = Math.exp(-0.5 * (NORMAL_X[i] * NORMAL_X[i] - x * x));
+	    double f1 = Math.exp(-0.5 * (NORMAL_X[i+1] * NORMAL_X[i+1] - x * x));
+	    if (f1 + source.sample() * (f0 - f1) < 1.0)
+		return x;
+	}
+    }
+
+    /** @return A standard exponential variate, from the 256-layer Ziggurat */
+    private double zigguratExponential() {
+	for (;;) {
+	    long bits = randomBits();
+	    int i = (int) bits & (EXP_LAYERS - 1);
+	    double u = ((bits >>> 11) + 0.5) * 0x1.0p-53;
+	    if (u < EXP_RATIO[i])
+		return u * EXP_X[i];
+	    if (i == 0)
+		// memoryless tail: R plus a fresh exponential
+		return EXP_R - Math.log(source.sample());
+	    double x = u * EXP_X[i];
+	    double f0 = Math.exp(-(EXP_X[i] - x));
+	    double f1 = Math.exp(-(EXP_X[i+1] - x));
+	    if (f1 + source.sample() * (f0 - f1) < 1.0)
+		return x;
+	}
+    }
+}
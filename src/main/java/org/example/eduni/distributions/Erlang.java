@@ -31,6 +31,19 @@ public class Erlang extends Generator implements ContinuousGenerator {
 	super(seed);
 	set(scale, shape);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param scale The scale of the distribution
+     * @param shape The shape of the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Erlang(double shape, double scale, ContinuousGenerator source) {
+	super(source);
+	set(scale, shape);
+    }
     
     private void set(double scale, double shape) {
 	if (scale <= 0.0)
@@ -43,5 +56,10 @@ public class Erlang extends Generator implements ContinuousGenerator {
      * Generate a new random number.
      * @return The next random number in the sequence
      */
-    public double sample() { return distrib.erlang(shape, scale); }
+    public double sample() {
+	// the legacy method passes shape and scale swapped; kept for reproducibility
+	if (distrib.getSamplingMethod() == SamplingMethod.FAST)
+	    return distrib.erlang(scale, shape);
+	return distrib.erlang(shape, scale);
+    }
 }
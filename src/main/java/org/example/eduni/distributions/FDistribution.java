@@ -31,6 +31,19 @@ public class FDistribution extends Generator implements ContinuousGenerator {
 	super(seed);
 	set(num_deg_freedom, den_deg_freedom);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param num_deg_freedom The numerator degrees of freedom for the distribution
+     * @param den_deg_freedom The denominator degrees of freedom for the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public FDistribution(long num_deg_freedom, long den_deg_freedom, ContinuousGenerator source) {
+	super(source);
+	set(num_deg_freedom, den_deg_freedom);
+    }
     
     private void set(long num_deg_freedom, long den_deg_freedom) {
 	if ((num_deg_freedom <= 0L) || (den_deg_freedom <= 0L))
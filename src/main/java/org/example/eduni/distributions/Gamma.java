@@ -31,6 +31,19 @@ public class Gamma extends Generator implements ContinuousGenerator {
 	super(seed);
 	set(scale, shape);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param scale The scale of the distribution
+     * @param shape The shape of the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Gamma(double scale, double shape, ContinuousGenerator source) {
+	super(source);
+	set(scale, shape);
+    }
     
     private void set(double scale, double shape) {
 	if ((scale <= 0.0) || (shape <= 0.0))
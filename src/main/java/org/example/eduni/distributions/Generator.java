@@ -7,10 +7,18 @@ public abstract class Generator implements Seedable {
     protected Distributions distrib;
     Generator () { distrib = new Distributions(); }
     Generator (long seed) { distrib = new Distributions(seed); }
+    Generator (ContinuousGenerator source) { distrib = new Distributions(source); }
     
     // ----- implements Seedable { -----
     public void setSeed(long seed) { distrib.source.setSeed(seed); }
     public long getSeed() { return distrib.source.getSeed(); }
     public void reseed() { distrib.source.reseed(); }
     // ----- } implements Seedable -----
+
+    /** Selects the algorithms samples are computed with; the default is <code>SamplingMethod.LEGACY</code>
+     * @param method The sampling method
+     */
+    public void setSamplingMethod(SamplingMethod method) { distrib.setSamplingMethod(method); }
+    /** @return The sampling method in use */
+    public SamplingMethod getSamplingMethod() { return distrib.getSamplingMethod(); }
 }
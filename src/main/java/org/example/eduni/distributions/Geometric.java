@@ -27,6 +27,17 @@ public class Geometric extends Generator implements DiscreteGenerator {
 	set(prob);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Geometric(double prob, ContinuousGenerator source) {
+	super(source);
+	set(prob);
+    }
+
     private void set(double prob) {
         if (prob<=0 || prob>=1)
             throw new ParameterException("Geometric: The probability of success must be between 0 and 1.");
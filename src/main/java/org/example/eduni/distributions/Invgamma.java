@@ -28,6 +28,17 @@ public class Invgamma extends Generator implements ContinuousGenerator {
 	    set(scale, shape);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Invgamma(double scale, double shape, ContinuousGenerator source) {
+	    super(source);
+	    set(scale, shape);
+    }
+
     private void set(double scale, double shape) {
         if (scale <= 0.0 || shape <= 0.0)
             throw new ParameterException("Invgamma: The scale and shape parameters must be greater than 0.");
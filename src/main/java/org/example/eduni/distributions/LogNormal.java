@@ -27,10 +27,35 @@ public class LogNormal extends Normal {
     public LogNormal(double mean, double variance, long seed) {
 	super(mean, variance, seed);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param mean The mean of the distribution
+     * @param variance The variance of the distribution
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public LogNormal(double mean, double variance, ContinuousGenerator source) {
+	super(mean, variance, source);
+    }
     
     /**
      * Generate a new random number.
      * @return The next random number in the sequence
      */
     public double sample() { return distrib.lognormal2(mean, std_dev); }
+
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(double[] out, int off, int len) { distrib.lognormal2(mean, std_dev, out, off, len); }
+
+    /**
+     * The quantile function, e.g. to tabulate with <code>InverseCdfGenerator</code>.
+     * @param p A probability between 0 and 1
+     * @return exp(mean + std_dev * z(p)), z being the standard normal quantile
+     */
+    public double quantile(double p) { return Math.exp(mean + std_dev * standardQuantile(p)); }
 }
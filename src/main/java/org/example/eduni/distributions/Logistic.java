@@ -28,6 +28,17 @@ public class Logistic extends Generator implements ContinuousGenerator {
         set(location, scale);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Logistic(double location, double scale, ContinuousGenerator source) {
+        super(source);
+        set(location, scale);
+    }
+
     private void set(double location, double scale) {
         if (scale<=0)
             throw new ParameterException("Logistic: The scale parameter must be greater than 0.");
@@ -42,4 +53,10 @@ public class Logistic extends Generator implements ContinuousGenerator {
     public double sample() { 
          return distrib.logistic(location, scale);
     }
+
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(double[] out, int off, int len) { distrib.logistic(location, scale, out, off, len); }
 }
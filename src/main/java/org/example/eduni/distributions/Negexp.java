@@ -27,6 +27,17 @@ public class Negexp extends Generator implements ContinuousGenerator {
         set(mean);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Negexp(double mean, ContinuousGenerator source) {
+        super(source);
+        set(mean);
+    }
+
     private void set(double mean) {
         if (mean<=0)
             throw new ParameterException("Negexp: The mean must be greater than 0.");
@@ -40,4 +51,10 @@ public class Negexp extends Generator implements ContinuousGenerator {
     public double sample() { 
          return distrib.negexp(mean);
     }
+
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(double[] out, int off, int len) { distrib.negexp(mean, out, off, len); }
 }
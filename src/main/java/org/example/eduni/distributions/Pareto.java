@@ -28,6 +28,17 @@ public class Pareto extends Generator implements ContinuousGenerator {
         set(shape, scale);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Pareto(double scale, double shape, ContinuousGenerator source) {
+        super(source);
+        set(shape, scale);
+    }
+
     private void set(double shape, double scale) {
         if (shape<=0 || scale<=0)
             throw new ParameterException("Pareto: Shape and scale parameters must be greater than 0.");
@@ -40,6 +51,30 @@ public class Pareto extends Generator implements ContinuousGenerator {
      * @return The next random number in the sequence
      */
     public double sample() { 
-         return distrib.pareto(shape, scale);
+	// the legacy method passes shape and scale swapped; kept for reproducibility
+	if (distrib.getSamplingMethod() == SamplingMethod.FAST)
+	    return distrib.pareto(scale, shape);
+	return distrib.pareto(shape, scale);
+    }
+
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(double[] out, int off, int len) {
+	if (distrib.getSamplingMethod() == SamplingMethod.FAST)
+	    distrib.pareto(scale, shape, out, off, len);
+	else
+	    distrib.pareto(shape, scale, out, off, len);
     }
+
+    /**
+     * The quantile function of the Pareto distribution with this scale and shape,
+     * e.g. to tabulate with <code>InverseCdfGenerator</code>. It follows the textbook
+     * parameters, as {@link #sample()} does with the FAST sampling method; the legacy
+     * method swaps them and draws from <code>new Pareto(shape, scale)</code> instead.
+     * @param p A probability between 0 and 1
+     * @return scale / (1-p)^(1/shape)
+     */
+    public double quantile(double p) { return scale / Math.pow(1-p, 1/shape); }
 }
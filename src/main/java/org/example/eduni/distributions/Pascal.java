@@ -28,6 +28,17 @@ public class Pascal extends Generator implements DiscreteGenerator {
         set(prob, successes);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Pascal(double prob, int successes, ContinuousGenerator source) {
+        super(source);
+        set(prob, successes);
+    }
+
     private void set(double prob, int successes) {
         if (prob<=0 || prob>=1)
             throw new ParameterException("Pascal: The probability of success must be between 0 and 1.");
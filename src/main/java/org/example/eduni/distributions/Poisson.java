@@ -27,6 +27,17 @@ public class Poisson extends Generator implements DiscreteGenerator {
         set(mean);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Poisson(double mean, ContinuousGenerator source) {
+        super(source);
+        set(mean);
+    }
+
     private void set(double mean) {
         if (mean<=0)
             throw new ParameterException("Poisson: The mean must be greater than 0.");
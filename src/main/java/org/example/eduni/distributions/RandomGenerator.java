@@ -30,6 +30,14 @@ public class RandomGenerator implements ContinuousGenerator {
     public double sample() { 
 	return ((double)nextLong()) / m;
     }
+
+    public void sample(double[] out, int off, int len) {
+	// the state stays in a local for the whole block
+	long y = seed;
+	for (int i = off; i < off + len; i++)
+	    out[i] = ((double)(y = (a * y) % m)) / m;
+	seed = y;
+    }
     // ----- } implements ContinuousGenerator -----
 
     /**
@@ -38,6 +46,33 @@ public class RandomGenerator implements ContinuousGenerator {
     public long nextLong() {
 	return seed = (a * seed) % m;
     }
+
+    /**
+     * Advances the sequence by the given number of steps in O(log steps) time.
+     * The state afterwards is the one <code>steps</code> calls to {@link #nextLong()} would leave.
+     * @param steps The number of steps to skip
+     */
+    public void skip(long steps) {
+	if (steps <= 0) return;
+	// one ordinary step brings any seed into (-m, m), where jumping and stepping agree
+	nextLong();
+	seed = (multiplier(steps - 1) * seed) % m;
+    }
+
+    /**
+     * @param steps A number of steps
+     * @return The multiplier that advances the sequence by <code>steps</code> steps at once,
+     *         a<sup>steps</sup> mod m, computed by repeated squaring
+     */
+    public static long multiplier(long steps) {
+	long result = 1, power = 742938285L, modulus = 2147483647L;
+	// the multiplier cycles with the period m-1
+	for (long e = steps % (modulus - 1); e > 0; e >>= 1) {
+	    if ((e & 1) != 0) result = (result * power) % modulus;
+	    power = (power * power) % modulus;
+	}
+	return result;
+    }
     
     // ----- implements Seedable { -----
     public void setSeed(long seed) { this.seed = seed; }
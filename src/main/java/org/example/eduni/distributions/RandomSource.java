@@ -0,0 +1,30 @@
+package org.example.eduni.distributions;
+
+/**
+ * The uniform generators a distribution can be computed from.
+ * Every generator of this package accepts one in place of a seed, e.g.
+ * <code>new Negexp(mean, RandomSource.XOSHIRO256.create(seed))</code>;
+ * a seed alone always selects {@link #LCG}, so existing results stay reproducible.
+ */
+public enum RandomSource {
+    /** The multiplicative congruential generator of <code>RandomGenerator</code>:
+     *  31 bits per number and a period of 2<sup>31</sup>-2. The default, for reproducing earlier runs. */
+    LCG,
+    /** xoshiro256**: 53 bits per number, a period of 2<sup>256</sup>-1 and jump-ahead */
+    XOSHIRO256,
+    /** SplitMix64: 53 bits per number, a period of 2<sup>64</sup> and cheap splitting */
+    SPLITMIX64;
+
+    /**
+     * Creates a generator of this kind.
+     * @param seed The initial seed; equal seeds give equal sequences
+     * @return The new generator
+     */
+    public ContinuousGenerator create(long seed) {
+	switch (this) {
+	case XOSHIRO256: return new Xoshiro256StarStar(seed);
+	case SPLITMIX64: return new SplitMix64(seed);
+	default: return new RandomGenerator(seed);
+	}
+    }
+}
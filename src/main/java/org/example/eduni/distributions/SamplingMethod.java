@@ -0,0 +1,19 @@
+package org.example.eduni.distributions;
+
+/**
+ * The algorithms a <code>Distributions</code> object computes its variates with.
+ * Both methods sample the same distributions, except for the defects noted under
+ * {@link #FAST}, but from a given seed they produce different sequences.
+ * @see Generator#setSamplingMethod(SamplingMethod)
+ */
+public enum SamplingMethod {
+    /** The original algorithms of the package, for reproducing earlier results. The default. */
+    LEGACY,
+    /** Faster algorithms: Ziggurat for the normal and exponential distributions,
+     *  and every distribution computed from them; and, for large parameters, PTRS for
+     *  Poisson, BTPE for binomial, Marsaglia and Tsang for gamma, Erlang and chi-square,
+     *  and a Poisson-gamma mixture for Pascal. These also correct four defects kept by LEGACY:
+     *  chi-square variates summing unsquared normals, Erlang and Pareto swapping shape and
+     *  scale, and Weibull variates that are NaN unless 1/shape is an integer. */
+    FAST
+}
@@ -1,7 +1,8 @@
 package org.example.eduni.distributions;
 
 /** A SeedGenerator is a DiscreteGenerator which produces well-spaced seeds
- *  according to its spacing attribute. It relies on a <code>RandomGenerator</code>
+ *  according to its spacing attribute. It relies on a <code>RandomGenerator</code>,
+ *  jumping ahead by <code>spacing</code> steps in O(log spacing) time.
  */
 public class SeedGenerator implements DiscreteGenerator {
     private static long root = 4851L; // The root seed
@@ -22,16 +23,37 @@ public class SeedGenerator implements DiscreteGenerator {
     // ----- } implements Seedable -----
 
     // ----- implements DiscreteGenerator { -----
-    public long sample() {
+    // synchronized: the default SeedGenerator is shared by every engine in the JVM
+    public synchronized long sample() {
 	if (not_sampled) not_sampled = false;
-	else
-	    for (int i=0; i<spacing; i++) source.nextLong();
+	else source.skip(spacing);
 	return getSeed();
     }
+    // ----- } implements DiscreteGenerator -----
+
+    /**
+     * Creates the seed generator of an independent substream, e.g. for one of several
+     * replications run in parallel. Substream <code>index</code> starts <code>index*length</code>
+     * steps after the current seed of this generator and has the same spacing, so substreams
+     * do not overlap as long as each draws at most <code>length/spacing</code> seeds.
+     * This generator is not advanced.
+     * @param index The number of the substream, from 0
+     * @param length The number of generator steps reserved for every substream
+     * @return The seed generator of the substream
+     */
+    public SeedGenerator substream(long index, long length) {
+	RandomGenerator start = new RandomGenerator(getSeed());
+	start.skip(index * length);
+	return new SeedGenerator(start.getSeed(), spacing);
+    }
+
+    /** @return The number of generator steps between two seeds */
+    public int getSpacing() { return spacing; }
 
     private static SeedGenerator defaut = new SeedGenerator();
+    /** @return the generator that seeds every generator created without an explicit seed */
+    public static SeedGenerator getDefaultSeedGenerator() { return defaut; }
     // package: accessible only from the generators within the package
-    static SeedGenerator getDefaultSeedGenerator() { return defaut; }
     static void setDefaultSeedGenerator(long seed, int spacing) {
 	defaut = new SeedGenerator(seed, spacing);
     }
@@ -0,0 +1,73 @@
+package org.example.eduni.distributions;
+
+/**
+ * The SplitMix64 generator of Steele, Lea and Flood (2014), the algorithm behind
+ * <code>java.util.SplittableRandom</code>.
+ * <p>
+ * The state is a 64-bit counter advanced by an odd increment (the gamma) and the output
+ * is a bijective mix of the counter, so the period is 2<sup>64</sup> and every output is
+ * 64 bits wide. {@link #split()} derives a child with a fresh counter and gamma, which
+ * makes the generator suited to handing out streams to parallel tasks.
+ * Also used to expand a 64-bit seed into the state of {@link Xoshiro256StarStar}.
+ */
+public class SplitMix64 implements SplittableSource {
+    /** The odd increment of the default stream, 2<sup>64</sup> divided by the golden ratio */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private long state;
+    private final long gamma;
+    // the seed last set, returned by getSeed()
+    private long seed;
+
+    /** The seed is automatically provided by the default <code>SeedGenerator</code> */
+    public SplitMix64 () { gamma = GOLDEN_GAMMA; reseed(); }
+    /** @param seed The initial seed of the generator */
+    public SplitMix64 (long seed) { gamma = GOLDEN_GAMMA; setSeed(seed); }
+    private SplitMix64 (long state, long gamma) {
+	this.state = this.seed = state;
+	this.gamma = gamma;
+    }
+
+    // ----- implements ContinuousGenerator { -----
+    /** @return A uniform number in the open interval (0, 1) with 53 random bits */
+    public double sample() {
+	return ((nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+    }
+
+    public void sample(double[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = ((nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+    }
+    // ----- } implements ContinuousGenerator -----
+
+    // ----- implements SplittableSource { -----
+    public long nextLong() {
+	return mix64(state += gamma);
+    }
+
+    public SplittableSource split() {
+	return new SplitMix64(nextLong(), mixGamma(state += gamma));
+    }
+    // ----- } implements SplittableSource -----
+
+    // ----- implements Seedable { -----
+    public void setSeed(long seed) { this.seed = seed; state = seed; }
+    /** @return The seed the generator was last started from, not its current state */
+    public long getSeed() { return seed; }
+    public void reseed() { setSeed(SeedGenerator.getDefaultSeedGenerator().sample()); }
+    // ----- } implements Seedable -----
+
+    /** Stafford's variant 13 of the MurmurHash3 finalizer */
+    static long mix64(long z) {
+	z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+	z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+	return z ^ (z >>> 31);
+    }
+
+    /** Turns a random value into an odd gamma with enough bit transitions to mix well */
+    private static long mixGamma(long z) {
+	z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+	z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+	z = (z ^ (z >>> 33)) | 1L;
+	return Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
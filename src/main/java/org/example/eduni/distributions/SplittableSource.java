@@ -0,0 +1,20 @@
+package org.example.eduni.distributions;
+
+/** A uniform generator whose sequence can be split into independent streams.
+ * Splitting is the way to feed parallel replications or several model components
+ * from one root generator without the streams overlapping or correlating.
+ * @see RandomSource
+ */
+public interface SplittableSource extends ContinuousGenerator {
+    /**
+     * @return The next 64 random bits of the sequence
+     */
+    long nextLong();
+
+    /**
+     * Creates a new generator whose sequence is independent of the rest of this one.
+     * This generator advances as a side effect, so repeated calls give distinct streams.
+     * @return The new generator
+     */
+    SplittableSource split();
+}
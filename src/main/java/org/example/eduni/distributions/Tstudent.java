@@ -27,6 +27,17 @@ public class Tstudent extends Generator implements ContinuousGenerator {
         set(deg_freedom);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Tstudent(long deg_freedom, ContinuousGenerator source) {
+        super(source);
+        set(deg_freedom);
+    }
+
     private void set(long deg_freedom) {
         if (deg_freedom<=0)
             throw new ParameterException("Tstudent: The degrees of freedom must be a positive integer.");
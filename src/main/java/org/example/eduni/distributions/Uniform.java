@@ -28,6 +28,17 @@ public class Uniform extends Generator implements ContinuousGenerator {
         set(min, max);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Uniform(double min, double max, ContinuousGenerator source) {
+        super(source);
+        set(min, max);
+    }
+
     private void set(double min, double max) {
         if (max<=min)
             throw new ParameterException("Uniform: The maximum must be greater than the minimum.");
@@ -42,4 +53,10 @@ public class Uniform extends Generator implements ContinuousGenerator {
     public double sample() { 
          return distrib.uniform(min, max);
     }
+
+    /**
+     * Generate the next <code>len</code> random numbers at once.
+     * @param out The array the numbers are stored in, from index <code>off</code> on
+     */
+    public void sample(double[] out, int off, int len) { distrib.uniform(min, max, out, off, len); }
 }
@@ -28,6 +28,17 @@ public class Weibull extends Generator implements ContinuousGenerator {
         set(scale, shape);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is
+     * supplied, e.g. one of the generators of <code>RandomSource</code>
+     * @param source The uniform generator the samples are computed from;
+     *               it must not be shared with another generator
+     */
+    public Weibull(double scale, double shape, ContinuousGenerator source) {
+        super(source);
+        set(scale, shape);
+    }
+
     private void set(double scale, double shape) {
         if (scale<=0 || shape <= 0)
             throw new ParameterException("Weibull:  Scale and shape parameters must be greater than 0.");
@@ -42,4 +53,13 @@ public class Weibull extends Generator implements ContinuousGenerator {
     public double sample() { 
          return distrib.weibull(scale, shape);
     }
+
+    /**
+     * The quantile function of the Weibull distribution with this scale and shape,
+     * e.g. to tabulate with <code>InverseCdfGenerator</code>. It matches {@link #sample()}
+     * with the FAST sampling method; the legacy method returns NaN unless 1/shape is an integer.
+     * @param p A probability between 0 and 1
+     * @return scale * (-log(1-p))^(1/shape)
+     */
+    public double quantile(double p) { return scale * Math.pow(-Math.log1p(-p), 1/shape); }
 }
@@ -0,0 +1,96 @@
+package org.example.eduni.distributions;
+
+/**
+ * The xoshiro256** generator of Blackman and Vigna (2018).
+ * <p>
+ * It keeps 256 bits of state, has a period of 2<sup>256</sup>-1, produces 64 random bits
+ * per step with a few shifts, rotations and multiplications, and passes the BigCrush and
+ * PractRand test batteries. A 64-bit seed is expanded into the state with
+ * {@link SplitMix64}, as recommended by the authors.
+ * <p>
+ * {@link #jump()} advances the sequence by 2<sup>128</sup> steps, so up to 2<sup>128</sup>
+ * non-overlapping streams of 2<sup>128</sup> numbers each can be taken from one seed;
+ * {@link #split()} hands out such streams one after the other.
+ */
+public class Xoshiro256StarStar implements SplittableSource {
+    private static final long[] JUMP = {
+	0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL };
+    private long s0, s1, s2, s3;
+    // the seed last set, returned by getSeed()
+    private long seed;
+
+    /** The seed is automatically provided by the default <code>SeedGenerator</code> */
+    public Xoshiro256StarStar () { reseed(); }
+    /** @param seed The initial seed of the generator */
+    public Xoshiro256StarStar (long seed) { setSeed(seed); }
+    private Xoshiro256StarStar (Xoshiro256StarStar other) {
+	s0 = other.s0; s1 = other.s1; s2 = other.s2; s3 = other.s3;
+	seed = other.seed;
+    }
+
+    // ----- implements ContinuousGenerator { -----
+    /** @return A uniform number in the open interval (0, 1) with 53 random bits */
+    public double sample() {
+	return ((nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+    }
+
+    public void sample(double[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = ((nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+    }
+    // ----- } implements ContinuousGenerator -----
+
+    // ----- implements SplittableSource { -----
+    public long nextLong() {
+	long result = Long.rotateLeft(s1 * 5, 7) * 9;
+	long t = s1 << 17;
+	s2 ^= s0;
+	s3 ^= s1;
+	s1 ^= s2;
+	s0 ^= s3;
+	s2 ^= t;
+	s3 = Long.rotateLeft(s3, 45);
+	return result;
+    }
+
+    /**
+     * Returns a generator positioned where this one is, then jumps this one ahead
+     * by 2<sup>128</sup> steps, so the two sequences do not overlap.
+     * @return The new generator
+     */
+    public SplittableSource split() {
+	Xoshiro256StarStar child = new Xoshiro256StarStar(this);
+	jump();
+	return child;
+    }
+    // ----- } implements SplittableSource -----
+
+    /**
+     * Advances the sequence by 2<sup>128</sup> steps, in the time of 256 ordinary steps.
+     */
+    public void jump() {
+	long t0 = 0, t1 = 0, t2 = 0, t3 = 0;
+	for (long jump : JUMP)
+	    for (int b = 0; b < 64; b++) {
+		if ((jump & (1L << b)) != 0) {
+		    t0 ^= s0; t1 ^= s1; t2 ^= s2; t3 ^= s3;
+		}
+		nextLong();
+	    }
+	s0 = t0; s1 = t1; s2 = t2; s3 = t3;
+    }
+
+    // ----- implements Seedable { -----
+    public void setSeed(long seed) {
+	this.seed = seed;
+	long z = seed;
+	s0 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+	s1 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+	s2 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+	s3 = SplitMix64.mix64(z += 0x9e3779b97f4a7c15L);
+    }
+    /** @return The seed the generator was last started from, not its current state */
+    public long getSeed() { return seed; }
+    public void reseed() { setSeed(SeedGenerator.getDefaultSeedGenerator().sample()); }
+    // ----- } implements Seedable -----
+}
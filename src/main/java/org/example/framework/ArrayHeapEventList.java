@@ -0,0 +1,164 @@
+package org.example.framework;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+/**
+ * An event list backed by a 4-ary binary heap stored in parallel primitive arrays.
+ * Adding and removing events does not allocate once the arrays have grown to the
+ * working size, and events with equal times are removed in insertion (FIFO) order.
+ * <p>
+ * The event returned by {@link #remove()} is reused by the next call to {@code remove()},
+ * so callers must not keep a reference to it.
+ */
+public class ArrayHeapEventList extends EventList {
+	private static final int ARITY = 4;
+	private double[] times;
+	private long[] sequences;
+	private int[] types;
+	private int[] indices;
+	private int size = 0;
+	private long nextSequence = 0;
+	private final EventTypeTable typeTable = new EventTypeTable();
+	private final Event current = new Event(null, 0);
+	/**
+	 * Constructor for the ArrayHeapEventList class.
+	 */
+	public ArrayHeapEventList() {
+		this(64);
+	}
+	/**
+	 * Constructor for the ArrayHeapEventList class.
+	 * @param initialCapacity The number of events the list can hold before growing.
+	 */
+	public ArrayHeapEventList(int initialCapacity) {
+		super(Implementation.ARRAY_HEAP);
+		int capacity = Math.max(ARITY, initialCapacity);
+		times = new double[capacity];
+		sequences = new long[capacity];
+		types = new int[capacity];
+		indices = new int[capacity];
+	}
+	/**
+	 * Removes the next event from the event list.
+	 * @return The next event. The instance is reused by the next call.
+	 */
+	@Override
+	public Event remove() {
+		if (size == 0) {
+			throw new NoSuchElementException("Event list is empty");
+		}
+		current.setType(typeTable.typeOf(types[0]));
+		current.setTime(times[0]);
+		current.setIndex(indices[0]);
+		size--;
+		if (size > 0) {
+			siftDown(times[size], sequences[size], types[size], indices[size]);
+		}
+		return current;
+	}
+	/**
+	 * Adds an event to the event list.
+	 * @param t The event to add.
+	 */
+	@Override
+	public void add(Event t) {
+		add(t.getType(), t.getTime(), t.getIndex());
+	}
+	/**
+	 * Adds an event to the event list without creating an {@link Event} object.
+	 * @param type The type of the event.
+	 * @param time The time of the event.
+	 * @param index The target index of the event.
+	 */
+	public void add(IEventType type, double time, int index) {
+		if (size == times.length) {
+			grow();
+		}
+		siftUp(size++, time, nextSequence++, typeTable.idOf(type), index);
+	}
+	/**
+	 * Returns the time of the next event in the event list.
+	 * @return The time of the next event.
+	 * @throws NoSuchElementException If the event list is empty.
+	 */
+	@Override
+	public double getNextEventTime() {
+		if (size == 0) {
+			throw new NoSuchElementException("Event list is empty");
+		}
+		return times[0];
+	}
+	/**
+	 * Returns the number of pending events.
+	 * @return The number of events in the event list.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private void siftUp(int hole, double time, long sequence, int type, int index) {
+		while (hole > 0) {
+			int parent = (hole - 1) / ARITY;
+			if (!before(time, sequence, parent)) {
+				break;
+			}
+			move(parent, hole);
+			hole = parent;
+		}
+		set(hole, time, sequence, type, index);
+	}
+
+	private void siftDown(double time, long sequence, int type, int index) {
+		int hole = 0;
+		while (true) {
+			int first = hole * ARITY + 1;
+			if (first >= size) {
+				break;
+			}
+			int last = Math.min(first + ARITY, size);
+			int best = first;
+			for (int c = first + 1; c < last; c++) {
+				if (times[c] < times[best] || (times[c] == times[best] && sequences[c] < sequences[best])) {
+					best = c;
+				}
+			}
+			if (!before(times[best], sequences[best], time, sequence)) {
+				break;
+			}
+			move(best, hole);
+			hole = best;
+		}
+		set(hole, time, sequence, type, index);
+	}
+
+	private boolean before(double time, long sequence, int slot) {
+		return before(time, sequence, times[slot], sequences[slot]);
+	}
+
+	private static boolean before(double time, long sequence, double otherTime, long otherSequence) {
+		return time < otherTime || (time == otherTime && sequence < otherSequence);
+	}
+
+	private void move(int from, int to) {
+		times[to] = times[from];
+		sequences[to] = sequences[from];
+		types[to] = types[from];
+		indices[to] = indices[from];
+	}
+
+	private void set(int slot, double time, long sequence, int type, int index) {
+		times[slot] = time;
+		sequences[slot] = sequence;
+		types[slot] = type;
+		indices[slot] = index;
+	}
+
+	private void grow() {
+		int capacity = times.length * 2;
+		times = Arrays.copyOf(times, capacity);
+		sequences = Arrays.copyOf(sequences, capacity);
+		types = Arrays.copyOf(types, capacity);
+		indices = Arrays.copyOf(indices, capacity);
+	}
+}
@@ -10,22 +10,34 @@ public class ArrivalProcess {
 	private ContinuousGenerator generator;
 	private EventList eventList;
 	private IEventType type;
+	private SimulationContext context;
 	/**
-	 * Constructor for the ArrivalProcess class.
+	 * Constructor for the ArrivalProcess class using the default context.
 	 * @param g The generator for the arrival process.
 	 * @param tl The event list.
 	 * @param type The type of the event.
 	 */
 	public ArrivalProcess(ContinuousGenerator g, EventList tl, IEventType type) {
+		this(g, tl, type, SimulationContext.getDefault());
+	}
+	/**
+	 * Constructor for the ArrivalProcess class.
+	 * @param g The generator for the arrival process.
+	 * @param tl The event list.
+	 * @param type The type of the event.
+	 * @param context The context whose clock the arrivals are scheduled from.
+	 */
+	public ArrivalProcess(ContinuousGenerator g, EventList tl, IEventType type, SimulationContext context) {
 		this.generator = g;
 		this.eventList = tl;
 		this.type = type;
+		this.context = context;
 	}
 	/**
 	 * Generates the next event and adds it to the event list.
 	 */
 	public void generateNextEvent() {
-		Event t = new Event(type, Clock.getInstance().getClock() + generator.sample());
+		Event t = new Event(type, context.getTime() + generator.sample());
 		eventList.add(t);
 	}
 }
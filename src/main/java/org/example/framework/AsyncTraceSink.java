@@ -0,0 +1,130 @@
+package org.example.framework;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+/**
+ * A trace sink that hands messages to a background writer thread through a bounded ring buffer.
+ * <p>
+ * Writing a message claims a slot with one compare-and-set and never waits for console I/O.
+ * When the buffer is full the message is dropped and counted instead of blocking the caller,
+ * so a slow console cannot slow down the simulation. Any number of threads may write;
+ * a single daemon thread drains the buffer in batches.
+ */
+public class AsyncTraceSink implements Trace.Sink, AutoCloseable {
+	private static final int DEFAULT_CAPACITY = 1 << 16;
+	private static final long IDLE_PARK_NANOS = 1_000_000;
+
+	private final AtomicReferenceArray<String> slots;
+	private final int mask;
+	/** Next sequence to claim; advanced by writers */
+	private final AtomicLong tail = new AtomicLong();
+	/** Next sequence to print; advanced only by the writer thread */
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	/** Number of messages handed to the output stream */
+	private volatile long printed = 0;
+	private final PrintStream out;
+	private final Thread writer;
+	private volatile boolean closed = false;
+
+	/**
+	 * Creates a sink printing to the console with the default capacity.
+	 */
+	public AsyncTraceSink() {
+		this(System.out, DEFAULT_CAPACITY);
+	}
+	/**
+	 * Creates a sink and starts its writer thread.
+	 * @param out The stream to print to.
+	 * @param capacity The number of buffered messages, rounded up to a power of two.
+	 */
+	public AsyncTraceSink(PrintStream out, int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.out = out;
+		this.writer = new Thread(this::drain, "trace-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+	/**
+	 * Queues a message for printing, or drops it if the buffer is full.
+	 * @param line The message.
+	 */
+	@Override
+	public void write(String line) {
+		long sequence;
+		do {
+			sequence = tail.get();
+			if (sequence - head.get() > mask) {
+				dropped.incrementAndGet();
+				return;
+			}
+		} while (!tail.compareAndSet(sequence, sequence + 1));
+		slots.set((int) (sequence & mask), line);
+	}
+	/**
+	 * Returns the number of messages dropped because the buffer was full.
+	 * @return The number of dropped messages.
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+	/**
+	 * Waits until every message queued so far has been printed.
+	 */
+	public void flush() {
+		long target = tail.get();
+		while (printed < target && writer.isAlive()) {
+			LockSupport.parkNanos(IDLE_PARK_NANOS);
+		}
+		out.flush();
+	}
+	/**
+	 * Prints the remaining messages and stops the writer thread.
+	 */
+	@Override
+	public void close() {
+		flush();
+		closed = true;
+		LockSupport.unpark(writer);
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain() {
+		StringBuilder batch = new StringBuilder();
+		long next = head.get();
+		while (!closed || next < tail.get()) {
+			int index = (int) (next & mask);
+			String line = slots.get(index);
+			if (line == null) {
+				// nothing queued, or a writer has claimed the slot but not filled it yet
+				print(batch, next);
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+				continue;
+			}
+			slots.set(index, null);
+			head.set(++next);
+			batch.append(line).append(System.lineSeparator());
+			if (batch.length() >= 8192) {
+				print(batch, next);
+			}
+		}
+		print(batch, next);
+	}
+
+	private void print(StringBuilder batch, long upTo) {
+		if (batch.length() > 0) {
+			out.print(batch);
+			out.flush();
+			batch.setLength(0);
+		}
+		printed = upTo;
+	}
+}
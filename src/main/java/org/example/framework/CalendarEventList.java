@@ -0,0 +1,306 @@
+package org.example.framework;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+/**
+ * An event list implemented as a calendar queue (R. Brown, 1988).
+ * <p>
+ * Events are hashed by time into an array of "day" buckets of equal width, each holding
+ * a short time-ordered list. Removal walks the calendar one day at a time from the day of
+ * the last removed event, so a hold operation (remove followed by add) costs amortized O(1)
+ * when the bucket width matches the spacing of events near the front of the list.
+ * The number of buckets doubles or halves as the list grows or shrinks, and on every resize
+ * the bucket width is recomputed from the gaps observed between recently removed events.
+ * The width is also re-checked periodically, so a list whose size stays constant still
+ * adapts when the spacing of its events drifts.
+ * <p>
+ * Events with equal times are removed in insertion (FIFO) order. Nodes live in parallel
+ * primitive arrays recycled through a free list, so steady-state operation does not allocate.
+ * The event returned by {@link #remove()} is reused by the next call to {@code remove()}.
+ */
+public class CalendarEventList extends EventList {
+	private static final int MIN_BUCKETS = 16;
+	private static final int GAP_SAMPLES = 32;
+	private static final int NIL = -1;
+
+	// node pool
+	private double[] times;
+	private long[] sequences;
+	private int[] types;
+	private int[] indices;
+	private int[] next;
+	private int freeNode = NIL;
+	private int allocatedNodes = 0;
+
+	// calendar
+	private int[] buckets;
+	private int mask;
+	private double width = 1.0;
+	private long currentDay = 0;	// virtual (unwrapped) day of the last removed event
+	private int size = 0;
+	private long nextSequence = 0;
+
+	// recent gaps between removed events, used to size the buckets
+	private final double[] gaps = new double[GAP_SAMPLES];
+	private int gapCount = 0;
+	private double lastRemovedTime = Double.NaN;
+	private int removalsSinceResize = 0;
+
+	private final EventTypeTable typeTable = new EventTypeTable();
+	private final Event current = new Event(null, 0);
+	/**
+	 * Constructor for the CalendarEventList class.
+	 */
+	public CalendarEventList() {
+		super(Implementation.CALENDAR_QUEUE);
+		times = new double[MIN_BUCKETS];
+		sequences = new long[MIN_BUCKETS];
+		types = new int[MIN_BUCKETS];
+		indices = new int[MIN_BUCKETS];
+		next = new int[MIN_BUCKETS];
+		buckets = new int[MIN_BUCKETS];
+		Arrays.fill(buckets, NIL);
+		mask = MIN_BUCKETS - 1;
+	}
+	/**
+	 * Removes the next event from the event list.
+	 * @return The next event. The instance is reused by the next call.
+	 */
+	@Override
+	public Event remove() {
+		int node = unlinkFirst();
+		double time = times[node];
+		current.setType(typeTable.typeOf(types[node]));
+		current.setTime(time);
+		current.setIndex(indices[node]);
+		freeNode(node);
+		recordGap(time);
+		if (size < buckets.length / 2 && buckets.length > MIN_BUCKETS) {
+			resize(buckets.length / 2);
+		} else if (++removalsSinceResize >= 2 * buckets.length) {
+			// re-check the width once per two calendar "years" of removals; amortized O(1)
+			double estimate = estimateWidth();
+			if (estimate > 2 * width || estimate < width / 2) {
+				resize(buckets.length);
+			}
+			removalsSinceResize = 0;
+		}
+		return current;
+	}
+	/**
+	 * Adds an event to the event list.
+	 * @param t The event to add.
+	 */
+	@Override
+	public void add(Event t) {
+		add(t.getType(), t.getTime(), t.getIndex());
+	}
+	/**
+	 * Adds an event to the event list without creating an {@link Event} object.
+	 * @param type The type of the event.
+	 * @param time The time of the event.
+	 * @param index The target index of the event.
+	 */
+	public void add(IEventType type, double time, int index) {
+		int node = allocateNode();
+		times[node] = time;
+		sequences[node] = nextSequence++;
+		types[node] = typeTable.idOf(type);
+		indices[node] = index;
+		long day = dayOf(time);
+		if (size == 0 || day < currentDay) {
+			currentDay = day;
+		}
+		link(node, day);
+		size++;
+		if (size > 2 * buckets.length) {
+			resize(2 * buckets.length);
+		}
+	}
+	/**
+	 * Returns the next event in the event list.
+	 * @return The time of the next event.
+	 */
+	@Override
+	public double getNextEventTime() {
+		return times[findFirst()];
+	}
+	/**
+	 * Returns the number of pending events.
+	 * @return The number of events in the event list.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	/**
+	 * Returns the current width of a calendar bucket.
+	 * @return The bucket width in simulation time units.
+	 */
+	public double getBucketWidth() {
+		return width;
+	}
+	/**
+	 * Returns the current number of calendar buckets.
+	 * @return The number of buckets.
+	 */
+	public int getBucketCount() {
+		return buckets.length;
+	}
+
+	/**
+	 * Locates the earliest event, advancing the current day to it.
+	 * @return The node of the earliest event, still linked into its bucket.
+	 */
+	private int findFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException("Event list is empty");
+		}
+		// walk one "year" of days starting at the current one
+		for (int i = 0; i < buckets.length; i++) {
+			long day = currentDay + i;
+			int head = buckets[(int) (day & mask)];
+			if (head != NIL && dayOf(times[head]) <= day) {
+				currentDay = day;
+				return head;
+			}
+		}
+		// nothing due within a year: jump straight to the earliest bucket head
+		int best = NIL;
+		for (int head : buckets) {
+			if (head != NIL && (best == NIL || before(head, best))) {
+				best = head;
+			}
+		}
+		currentDay = dayOf(times[best]);
+		return best;
+	}
+
+	private int unlinkFirst() {
+		int node = findFirst();
+		int bucket = (int) (currentDay & mask);
+		buckets[bucket] = next[node];
+		size--;
+		return node;
+	}
+
+	private void link(int node, long day) {
+		int bucket = (int) (day & mask);
+		int previous = NIL;
+		int cursor = buckets[bucket];
+		while (cursor != NIL && !before(node, cursor)) {
+			previous = cursor;
+			cursor = next[cursor];
+		}
+		next[node] = cursor;
+		if (previous == NIL) {
+			buckets[bucket] = node;
+		} else {
+			next[previous] = node;
+		}
+	}
+
+	private boolean before(int node, int other) {
+		return times[node] < times[other] || (times[node] == times[other] && sequences[node] < sequences[other]);
+	}
+
+	private long dayOf(double time) {
+		return (long) Math.floor(time / width);
+	}
+
+	private void recordGap(double time) {
+		if (!Double.isNaN(lastRemovedTime) && time > lastRemovedTime) {
+			gaps[gapCount++ % GAP_SAMPLES] = time - lastRemovedTime;
+		}
+		lastRemovedTime = time;
+	}
+
+	/**
+	 * Rebuilds the calendar with the given number of buckets and a freshly estimated width.
+	 * @param bucketCount The new number of buckets, a power of two.
+	 */
+	private void resize(int bucketCount) {
+		int[] oldBuckets = buckets;
+		width = estimateWidth();
+		removalsSinceResize = 0;
+		buckets = new int[bucketCount];
+		Arrays.fill(buckets, NIL);
+		mask = bucketCount - 1;
+		long firstDay = Long.MAX_VALUE;
+		for (int head : oldBuckets) {
+			int node = head;
+			while (node != NIL) {
+				int following = next[node];
+				long day = dayOf(times[node]);
+				firstDay = Math.min(firstDay, day);
+				link(node, day);
+				node = following;
+			}
+		}
+		currentDay = size > 0 ? firstDay : 0;
+	}
+
+	/**
+	 * Estimates a bucket width of about three mean inter-event gaps, as suggested by Brown.
+	 * Uses the gaps between recently removed events; before any removals, the spread of the
+	 * pending events is used instead. Gaps larger than twice the mean are ignored as outliers.
+	 * @return The new bucket width.
+	 */
+	private double estimateWidth() {
+		int samples = Math.min(gapCount, GAP_SAMPLES);
+		if (samples > 0) {
+			double mean = 0;
+			for (int i = 0; i < samples; i++) {
+				mean += gaps[i];
+			}
+			mean /= samples;
+			double trimmed = 0;
+			int kept = 0;
+			for (int i = 0; i < samples; i++) {
+				if (gaps[i] <= 2 * mean) {
+					trimmed += gaps[i];
+					kept++;
+				}
+			}
+			if (kept > 0 && trimmed > 0) {
+				return 3 * trimmed / kept;
+			}
+		}
+		if (size > 1) {
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			for (int head : buckets) {
+				for (int node = head; node != NIL; node = next[node]) {
+					min = Math.min(min, times[node]);
+					max = Math.max(max, times[node]);
+				}
+			}
+			if (max > min) {
+				return 3 * (max - min) / size;
+			}
+		}
+		return width;
+	}
+
+	private int allocateNode() {
+		if (freeNode != NIL) {
+			int node = freeNode;
+			freeNode = next[node];
+			return node;
+		}
+		if (allocatedNodes == times.length) {
+			int capacity = times.length * 2;
+			times = Arrays.copyOf(times, capacity);
+			sequences = Arrays.copyOf(sequences, capacity);
+			types = Arrays.copyOf(types, capacity);
+			indices = Arrays.copyOf(indices, capacity);
+			next = Arrays.copyOf(next, capacity);
+		}
+		return allocatedNodes++;
+	}
+
+	private void freeNode(int node) {
+		next[node] = freeNode;
+		freeNode = node;
+	}
+}
@@ -6,12 +6,16 @@ public class Clock {
 	private double clock;
 	private static Clock instance;
 	
-	private Clock(){
+	/**
+	 * Constructor for a clock that is independent of the shared instance.
+	 * Each {@link SimulationContext} owns one.
+	 */
+	public Clock(){
 		clock = 0;
 	}
 	/**
-	 * Returns the instance of the Clock class.
-	 * @return The instance of the Clock class.
+	 * Returns the shared instance used by {@link SimulationContext#getDefault()}.
+	 * @return The shared instance of the Clock class.
 	 */
 	public static Clock getInstance(){
 		if (instance == null){
@@ -1,9 +1,5 @@
 package org.example.framework;
 
-import org.example.model.Customer;
-
-import java.util.List;
-import java.util.Map;
 /**
  * The Engine class is the core of the simulation. It is responsible for running the simulation and
  * keeping track of the time. The Engine class is abstract and must be inherited by a class that
@@ -11,22 +7,28 @@ import java.util.Map;
  */
 public abstract class Engine {
 	private double simulationTime = 0;	// time when the simulation will be stopped
-	private Clock clock;// to simplify the code (clock.getClock() instead Clock.getInstance().getClock())
+	private Clock clock;// to simplify the code (clock.getClock() instead context.getClock().getClock())
+	/** State of this run: clock, id counter and running statistics */
+	protected final SimulationContext context;
 	/** Event list containing events to be processed */
 	protected EventList eventList;		// events to be processed are stored here
 	/** Listener for queue updates */
 	protected QueueUpdateListener queueUpdateListener;
 	/** Flag indicating if simulation is paused */
 	protected boolean isPaused = false;
+	/** Number of B-events processed by the last run */
+	private long eventCount = 0;
+	/** Wall-clock duration of the last run in nanoseconds */
+	private long wallTimeNanos = 0;
 	/**
 	 * Interface for receiving queue update notifications
 	 */
 	public interface QueueUpdateListener {
 		/**
-		 * Called when queue status changes
-		 * @param queueStatus Current status of all queues
+		 * Called on the simulation thread when a new queue snapshot has been published.
+		 * The snapshot itself is read from the engine, at the consumer's own pace.
 		 */
-		void onQueueUpdate(Map<String, List<Customer>> queueStatus);
+		void onQueueUpdate();
 	}
 	/**
 	 * Sets the QueueUpdateListener.
@@ -37,14 +39,39 @@ public abstract class Engine {
 	}
 	/**
 	 * Constructor for the Engine class.
+	 * The engine runs in {@link SimulationContext#getDefault()}, like the model objects created without a context.
 	 */
 	public Engine() {
-		clock = Clock.getInstance();
+		this(new EventList());
+	}
+	/**
+	 * Constructor for the Engine class with a specific event list implementation.
+	 * The engine runs in {@link SimulationContext#getDefault()}.
+	 * @param eventList The event list that stores the pending events.
+	 */
+	public Engine(EventList eventList) {
+		this(eventList, SimulationContext.getDefault());
+	}
+	/**
+	 * Constructor for the Engine class with a specific event list and simulation context.
+	 * @param eventList The event list that stores the pending events.
+	 * @param context The context holding the clock and random streams of this run.
+	 */
+	public Engine(EventList eventList, SimulationContext context) {
+		this.context = context;
+		clock = context.getClock();
 		
-		eventList = new EventList();
+		this.eventList = eventList;
 		
 		// Service Points are created in simu.model-package's class who is inheriting the Engine class
 	}
+	/**
+	 * Returns the context of this engine.
+	 * @return The simulation context owned by this engine.
+	 */
+	public SimulationContext getContext() {
+		return context;
+	}
 	/**
 	 * Sets the simulation time.
 	 * @param time The time to set.
@@ -56,10 +83,12 @@ public abstract class Engine {
 	 * Runs the simulation.
 	 */
 	public void run(){
+		eventCount = 0;
+		long startNanos = System.nanoTime();
 		initialize(); // creating, e.g., the first event
 
 		while (simulate()) {
-			Trace.out(Trace.Level.INFO, "\nA-phase: time is " + currentTime());
+			Trace.out(Trace.Level.INFO, () -> "\nA-phase: time is " + currentTime());
 			clock.setClock(currentTime());
 			
 			Trace.out(Trace.Level.INFO, "\nB-phase:" );
@@ -69,6 +98,7 @@ public abstract class Engine {
 			tryCEvents();
 
 		}
+		wallTimeNanos = System.nanoTime() - startNanos;
 
 		results();
 	}
@@ -78,6 +108,7 @@ public abstract class Engine {
 	private void runBEvents() {
 		while (eventList.getNextEventTime() == clock.getClock()){
 			runEvent(eventList.remove());
+			eventCount++;
 		}
 	}
 	/**
@@ -94,6 +125,27 @@ public abstract class Engine {
 	public void setPaused(boolean paused) {
 		this.isPaused = paused;
 	}
+	/**
+	 * Returns the number of events processed by the last run.
+	 * @return The number of B-events processed.
+	 */
+	public long getEventCount() {
+		return eventCount;
+	}
+	/**
+	 * Returns the wall-clock duration of the last run, excluding the results phase.
+	 * @return The run duration in nanoseconds.
+	 */
+	public long getWallTimeNanos() {
+		return wallTimeNanos;
+	}
+	/**
+	 * Returns the event throughput of the last run.
+	 * @return Events processed per wall-clock second, or 0 if nothing has run yet.
+	 */
+	public double getEventsPerSecond() {
+		return wallTimeNanos > 0 ? eventCount * 1e9 / wallTimeNanos : 0;
+	}
 	/**
 	 * Returns the current time.
 	 * @return The current time.
@@ -5,14 +5,26 @@ package org.example.framework;
 public class Event implements Comparable<Event> {
 	private IEventType type;
 	private double time;
+	private int index;
 	/**
 	 * Constructor for the Event class.
 	 * @param type The type of the event.
 	 * @param time The time of the event.
 	 */
 	public Event(IEventType type, double time){
+		this(type, time, 0);
+	}
+	/**
+	 * Constructor for an event addressed to one of several targets of the same type,
+	 * such as one service point among many.
+	 * @param type The type of the event.
+	 * @param time The time of the event.
+	 * @param index The index of the target the event belongs to.
+	 */
+	public Event(IEventType type, double time, int index){
 		this.type = type;
 		this.time = time;
+		this.index = index;
 	}
 	/**
 	 * Returns the type of the event.
@@ -43,6 +55,20 @@ public class Event implements Comparable<Event> {
 	public double getTime() {
 		return time;
 	}
+	/**
+	 * Sets the target index of the event.
+	 * @param index The index to set
+	 */
+	public void setIndex(int index) {
+		this.index = index;
+	}
+	/**
+	 * Gets the target index of the event.
+	 * @return The index of the target the event belongs to
+	 */
+	public int getIndex() {
+		return index;
+	}
 	/**
 	 * Compares the time of the event to another event.
 	 * @param arg The event to compare to.
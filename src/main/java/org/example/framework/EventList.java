@@ -1,23 +1,70 @@
 package org.example.framework;
 
+import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 /**
  * This class represents a list of events in the simulation.
+ * The default implementation is backed by a {@link PriorityQueue}; subclasses
+ * may replace the storage while keeping the same add/remove contract.
  */
 public class EventList {
-	private PriorityQueue<Event> eventlist;
+	/**
+	 * The available event list implementations.
+	 */
+	public enum Implementation {
+		/** Binary heap of {@link Event} objects ({@link EventList}) */
+		PRIORITY_QUEUE,
+		/** 4-ary heap in primitive arrays ({@link ArrayHeapEventList}) */
+		ARRAY_HEAP,
+		/** Self-resizing calendar queue ({@link CalendarEventList}) */
+		CALENDAR_QUEUE
+	}
+	private final PriorityQueue<Event> eventlist;
+	private final Implementation implementation;
+	/**
+	 * Creates an event list of the given implementation.
+	 * @param implementation The implementation to use.
+	 * @return A new, empty event list.
+	 */
+	public static EventList create(Implementation implementation) {
+		switch (implementation) {
+			case ARRAY_HEAP:
+				return new ArrayHeapEventList();
+			case CALENDAR_QUEUE:
+				return new CalendarEventList();
+			default:
+				return new EventList();
+		}
+	}
 	/**
 	 * Constructor for the EventList class.
 	 */
 	public EventList() {
 		eventlist = new PriorityQueue<>();
+		implementation = Implementation.PRIORITY_QUEUE;
+	}
+	/**
+	 * Constructor for subclasses that keep their events in their own storage.
+	 * No queue is allocated; the subclass must override every public method.
+	 * @param implementation The implementation the subclass provides, reported by {@link #getImplementation()}.
+	 */
+	protected EventList(Implementation implementation) {
+		eventlist = null;
+		this.implementation = implementation;
+	}
+	/**
+	 * Returns the implementation of this event list.
+	 * @return The implementation, e.g. for reports and benchmarks to name the queue that ran.
+	 */
+	public Implementation getImplementation() {
+		return implementation;
 	}
 	/**
 	 * Removes the next event from the event list.
 	 * @return The next event.
 	 */
 	public Event remove() {
-		Trace.out(Trace.Level.INFO,"Removing from the event list " + eventlist.peek().getType() + " " + eventlist.peek().getTime());
+		Trace.out(Trace.Level.INFO, () -> "Removing from the event list " + eventlist.peek().getType() + " " + eventlist.peek().getTime());
 		return eventlist.remove();
 	}
 	/**
@@ -25,16 +72,27 @@ public class EventList {
 	 * @param t The event to add.
 	 */
 	public void add(Event t) {
-		Trace.out(Trace.Level.INFO,"Adding to the event list " + t.getType() + " " + t.getTime());
+		Trace.out(Trace.Level.INFO, () -> "Adding to the event list " + t.getType() + " " + t.getTime());
 		eventlist.add(t);
 	}
 	/**
-	 * Returns the next event in the event list.
-	 * @return The next event.
+	 * Returns the time of the next event in the event list.
+	 * @return The time of the next event.
+	 * @throws NoSuchElementException If the event list is empty.
 	 */
 	public double getNextEventTime(){
-		return eventlist.peek().getTime();
+		Event next = eventlist.peek();
+		if (next == null) {
+			throw new NoSuchElementException("Event list is empty");
+		}
+		return next.getTime();
+	}
+	/**
+	 * Returns the number of pending events.
+	 * @return The number of events in the event list.
+	 */
+	public int size() {
+		return eventlist.size();
 	}
-
 
 }
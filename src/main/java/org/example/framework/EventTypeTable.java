@@ -0,0 +1,45 @@
+package org.example.framework;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+/**
+ * Maps event types to small dense integer ids and back, so that event lists
+ * can store the type of an event in a primitive array.
+ */
+class EventTypeTable {
+	private final Map<IEventType, Integer> ids = new IdentityHashMap<>();
+	private IEventType[] types = new IEventType[16];
+	private IEventType lastType;
+	private int lastId = -1;
+	/**
+	 * Returns the id of the given type, registering the type on first use.
+	 * @param type The event type.
+	 * @return The dense id of the type.
+	 */
+	int idOf(IEventType type) {
+		if (type == lastType) {
+			return lastId;
+		}
+		Integer id = ids.get(type);
+		if (id == null) {
+			id = ids.size();
+			if (id == types.length) {
+				types = Arrays.copyOf(types, types.length * 2);
+			}
+			types[id] = type;
+			ids.put(type, id);
+		}
+		lastType = type;
+		lastId = id;
+		return id;
+	}
+	/**
+	 * Returns the type registered under the given id.
+	 * @param id The dense id of the type.
+	 * @return The event type.
+	 */
+	IEventType typeOf(int id) {
+		return types[id];
+	}
+}
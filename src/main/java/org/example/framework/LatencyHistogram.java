@@ -0,0 +1,279 @@
+package org.example.framework;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+/**
+ * Fixed-memory histogram of latencies with log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Values are stored in multiples of the lowest discernible value. Each power-of-two range
+ * is split into linear sub-buckets, enough to keep the relative error of any recorded value
+ * below 10<sup>-digits</sup>, so memory depends only on the value range and the precision,
+ * never on the number of observations. Histograms with the same configuration can be merged
+ * exactly, which makes them suitable for pooling tails over many replications.
+ * Values above the highest trackable value are counted in the top bucket; the exact
+ * minimum, maximum and mean are kept separately.
+ */
+public class LatencyHistogram implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final double lowestValue;
+	private final double highestValue;
+	private final int significantDigits;
+	private final int subBucketHalfCountMagnitude;
+	private final int subBucketHalfCount;
+	private final long subBucketMask;
+	private final long highestUnits;
+	private final long[] counts;
+	private long totalCount = 0;
+	private double sum = 0;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Creates a histogram for latencies from 0.001 to 1,000,000 time units with a relative error below 1%.
+	 */
+	public LatencyHistogram() {
+		this(0.001, 1_000_000, 2);
+	}
+	/**
+	 * Creates a histogram.
+	 * @param lowestValue The smallest distinguishable value; smaller values are recorded as 0.
+	 * @param highestValue The largest value tracked with full precision.
+	 * @param significantDigits Number of significant decimal digits kept, from 1 to 5.
+	 */
+	public LatencyHistogram(double lowestValue, double highestValue, int significantDigits) {
+		if (!(lowestValue > 0) || !(highestValue > lowestValue)) {
+			throw new IllegalArgumentException("Need 0 < lowestValue < highestValue");
+		}
+		if (significantDigits < 1 || significantDigits > 5) {
+			throw new IllegalArgumentException("significantDigits must be between 1 and 5");
+		}
+		this.lowestValue = lowestValue;
+		this.highestValue = highestValue;
+		this.significantDigits = significantDigits;
+		long largestSingleUnitValue = 2 * (long) Math.pow(10, significantDigits);
+		int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestSingleUnitValue - 1);
+		this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+		this.subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+		this.subBucketMask = (1L << subBucketCountMagnitude) - 1;
+		this.highestUnits = (long) Math.ceil(highestValue / lowestValue);
+		this.counts = new long[countsIndex(highestUnits) + 1];
+	}
+	/**
+	 * Records one value.
+	 * @param value The value; negative values are recorded as 0.
+	 */
+	public void record(double value) {
+		counts[countsIndex(toUnits(value))]++;
+		totalCount++;
+		sum += value;
+		if (value < min) {
+			min = value;
+		}
+		if (value > max) {
+			max = value;
+		}
+	}
+	/**
+	 * Adds all values of another histogram to this one.
+	 * @param other A histogram with the same lowest value, highest value and precision.
+	 */
+	public void add(LatencyHistogram other) {
+		if (!sameLayout(other)) {
+			throw new IllegalArgumentException("Histograms have different ranges or precision");
+		}
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		totalCount += other.totalCount;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+	/**
+	 * Returns the value below which the given percentage of the recorded values fall.
+	 * The result is the midpoint of the bucket holding that rank, clamped to the observed range.
+	 * @param percentile The percentile, from 0 to 100.
+	 * @return The value at the percentile, or NaN if the histogram is empty.
+	 */
+	public double getValueAtPercentile(double percentile) {
+		if (totalCount == 0) {
+			return Double.NaN;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * totalCount));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				long low = valueFromIndex(i);
+				long high = low + bucketSize(i);
+				double value = (low + high) / 2.0 * lowestValue;
+				return Math.max(min, Math.min(max, value));
+			}
+		}
+		return max;
+	}
+	/**
+	 * Returns the number of recorded values.
+	 * @return The total count.
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+	/**
+	 * Returns the exact mean of the recorded values.
+	 * @return The mean, or NaN if the histogram is empty.
+	 */
+	public double getMean() {
+		return totalCount > 0 ? sum / totalCount : Double.NaN;
+	}
+	/**
+	 * Returns the smallest recorded value.
+	 * @return The minimum, or NaN if the histogram is empty.
+	 */
+	public double getMin() {
+		return totalCount > 0 ? min : Double.NaN;
+	}
+	/**
+	 * Returns the largest recorded value.
+	 * @return The maximum, or NaN if the histogram is empty.
+	 */
+	public double getMax() {
+		return totalCount > 0 ? max : Double.NaN;
+	}
+	/**
+	 * Creates an empty histogram with the same range and precision.
+	 * @return The new histogram.
+	 */
+	public LatencyHistogram emptyCopy() {
+		return new LatencyHistogram(lowestValue, highestValue, significantDigits);
+	}
+	/**
+	 * Creates a copy of this histogram.
+	 * @return The copy.
+	 */
+	public LatencyHistogram copy() {
+		LatencyHistogram copy = emptyCopy();
+		copy.add(this);
+		return copy;
+	}
+	/**
+	 * Discards all recorded values.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		sum = 0;
+		min = Double.POSITIVE_INFINITY;
+		max = Double.NEGATIVE_INFINITY;
+	}
+	/**
+	 * Encodes the histogram as a compact Base64 string. Only non-empty buckets are written,
+	 * as variable-length (gap, count) pairs, so sparse histograms stay small.
+	 * @return The encoded histogram, readable by {@link #decode(String)}.
+	 */
+	public String encode() {
+		ByteBuffer header = ByteBuffer.allocate(44);
+		header.putDouble(lowestValue).putDouble(highestValue).putInt(significantDigits)
+				.putDouble(sum).putDouble(min).putDouble(max);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(header.array(), 0, header.position());
+		int previous = -1;
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] != 0) {
+				writeVarLong(out, i - previous);
+				writeVarLong(out, counts[i]);
+				previous = i;
+			}
+		}
+		return Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+	/**
+	 * Decodes a histogram written by {@link #encode()}.
+	 * @param encoded The encoded histogram.
+	 * @return The decoded histogram.
+	 */
+	public static LatencyHistogram decode(String encoded) {
+		ByteBuffer in = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+		LatencyHistogram histogram = new LatencyHistogram(in.getDouble(), in.getDouble(), in.getInt());
+		histogram.sum = in.getDouble();
+		histogram.min = in.getDouble();
+		histogram.max = in.getDouble();
+		int index = -1;
+		while (in.hasRemaining()) {
+			index += (int) readVarLong(in);
+			long count = readVarLong(in);
+			histogram.counts[index] = count;
+			histogram.totalCount += count;
+		}
+		return histogram;
+	}
+
+	@Override
+	public String toString() {
+		if (totalCount == 0) {
+			return "n=0";
+		}
+		return String.format("n=%d, mean=%.2f, p50=%.2f, p90=%.2f, p99=%.2f, p99.9=%.2f, max=%.2f",
+				totalCount, getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+				getValueAtPercentile(99), getValueAtPercentile(99.9), getMax());
+	}
+
+	private boolean sameLayout(LatencyHistogram other) {
+		return lowestValue == other.lowestValue && highestValue == other.highestValue
+				&& significantDigits == other.significantDigits;
+	}
+
+	private long toUnits(double value) {
+		if (!(value > 0)) {
+			return 0;
+		}
+		return Math.min(highestUnits, (long) (value / lowestValue));
+	}
+
+	private int countsIndex(long units) {
+		int bucketIndex = 64 - Long.numberOfLeadingZeros(units | subBucketMask) - (subBucketHalfCountMagnitude + 1);
+		int subBucketIndex = (int) (units >>> bucketIndex);
+		return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+	}
+
+	/** Lowest value, in units, that maps to the given index */
+	private long valueFromIndex(int index) {
+		int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+		int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+		if (bucketIndex < 0) {
+			subBucketIndex -= subBucketHalfCount;
+			bucketIndex = 0;
+		}
+		return (long) subBucketIndex << bucketIndex;
+	}
+
+	/** Number of unit values sharing the given index */
+	private long bucketSize(int index) {
+		int bucketIndex = Math.max(0, (index >> subBucketHalfCountMagnitude) - 1);
+		return 1L << bucketIndex;
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer in) {
+		long value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return value;
+	}
+}
@@ -0,0 +1,143 @@
+package org.example.framework;
+
+import java.util.Arrays;
+/**
+ * Streaming estimate of one quantile using the P-square (P2) algorithm (R. Jain and I. Chlamtac, 1985).
+ * <p>
+ * Five markers track the minimum, the target quantile, the quantiles halfway to it on either
+ * side, and the maximum. Every observation moves the marker positions and adjusts their heights
+ * with a piecewise-parabolic formula, so memory and time per observation are constant.
+ * Until five observations have been seen the exact sample quantile is returned.
+ */
+public class P2Quantile {
+	private final double p;
+	private final double[] heights = new double[5];
+	private final int[] positions = {0, 1, 2, 3, 4};
+	private final double[] desired = new double[5];
+	private final double[] increments = new double[5];
+	private final double[] scratch = new double[5];
+	private long count = 0;
+
+	/**
+	 * Creates an estimator for the given quantile.
+	 * @param p The probability of the quantile, strictly between 0 and 1.
+	 */
+	public P2Quantile(double p) {
+		if (!(p > 0 && p < 1)) {
+			throw new IllegalArgumentException("Quantile probability must be in (0, 1): " + p);
+		}
+		this.p = p;
+		reset();
+	}
+	/**
+	 * Adds an observation.
+	 * @param x The observed value.
+	 */
+	public void add(double x) {
+		if (count < 5) {
+			heights[(int) count++] = x;
+			if (count == 5) {
+				Arrays.sort(heights);
+			}
+			return;
+		}
+		int cell;
+		if (x < heights[0]) {
+			heights[0] = x;
+			cell = 0;
+		} else if (x >= heights[4]) {
+			heights[4] = x;
+			cell = 3;
+		} else {
+			cell = 0;
+			while (x >= heights[cell + 1]) {
+				cell++;
+			}
+		}
+		for (int i = cell + 1; i < 5; i++) {
+			positions[i]++;
+		}
+		for (int i = 0; i < 5; i++) {
+			desired[i] += increments[i];
+		}
+		for (int i = 1; i <= 3; i++) {
+			double d = desired[i] - positions[i];
+			if ((d >= 1 && positions[i + 1] - positions[i] > 1) || (d <= -1 && positions[i - 1] - positions[i] < -1)) {
+				int step = d > 0 ? 1 : -1;
+				double candidate = parabolic(i, step);
+				if (heights[i - 1] < candidate && candidate < heights[i + 1]) {
+					heights[i] = candidate;
+				} else {
+					heights[i] = linear(i, step);
+				}
+				positions[i] += step;
+			}
+		}
+		count++;
+	}
+	/**
+	 * Returns the current estimate of the quantile.
+	 * @return The estimate, or NaN if nothing has been observed.
+	 */
+	public double getValue() {
+		if (count == 0) {
+			return Double.NaN;
+		}
+		if (count < 5) {
+			int n = (int) count;
+			System.arraycopy(heights, 0, scratch, 0, n);
+			Arrays.sort(scratch, 0, n);
+			double rank = p * (n - 1);
+			int below = (int) rank;
+			int above = Math.min(below + 1, n - 1);
+			return scratch[below] + (rank - below) * (scratch[above] - scratch[below]);
+		}
+		return heights[2];
+	}
+	/**
+	 * Returns the probability of the estimated quantile.
+	 * @return The probability.
+	 */
+	public double getProbability() {
+		return p;
+	}
+	/**
+	 * Returns the number of observations.
+	 * @return The number of observations.
+	 */
+	public long getCount() {
+		return count;
+	}
+	/**
+	 * Discards all observations.
+	 */
+	public void reset() {
+		count = 0;
+		for (int i = 0; i < 5; i++) {
+			positions[i] = i;
+		}
+		desired[0] = 0;
+		desired[1] = 2 * p;
+		desired[2] = 4 * p;
+		desired[3] = 2 + 2 * p;
+		desired[4] = 4;
+		increments[0] = 0;
+		increments[1] = p / 2;
+		increments[2] = p;
+		increments[3] = (1 + p) / 2;
+		increments[4] = 1;
+	}
+
+	private double parabolic(int i, int step) {
+		double below = positions[i] - positions[i - 1];
+		double above = positions[i + 1] - positions[i];
+		double span = positions[i + 1] - positions[i - 1];
+		return heights[i] + step / span
+				* ((below + step) * (heights[i + 1] - heights[i]) / above
+				+ (above - step) * (heights[i] - heights[i - 1]) / below);
+	}
+
+	private double linear(int i, int step) {
+		return heights[i] + step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+	}
+}
@@ -0,0 +1,142 @@
+package org.example.framework;
+
+import org.example.eduni.distributions.ContinuousGenerator;
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SeedGenerator;
+/**
+ * This class holds the mutable state of one simulation run: its clock, the
+ * counter used to number entities, the running statistics shared by the model objects
+ * and the seed generator and kind of generator that feed the random streams of the run.
+ * Every {@link Engine} owns its own context, so independent engines can run
+ * concurrently in the same JVM.
+ */
+public class SimulationContext {
+	private static final SimulationContext DEFAULT = new SimulationContext(Clock.getInstance());
+	private final Clock clock;
+	private final SeedGenerator seeds;
+	private final RandomSource randomSource;
+	private int nextId = 1;
+	private double totalTimeInSystem = 0;
+	private long seedsDrawn = 0;
+	/**
+	 * Constructor for the SimulationContext class with a fresh clock.
+	 * Random streams are seeded from the default, JVM-wide {@link SeedGenerator}.
+	 */
+	public SimulationContext() {
+		this(new Clock(), SeedGenerator.getDefaultSeedGenerator(), RandomSource.LCG);
+	}
+	/**
+	 * Constructor for the SimulationContext class with a fresh clock and a private seed generator.
+	 * Two contexts built from seed generators that produce the same seeds replay the same run.
+	 * @param seeds The seed generator for the random streams of this run.
+	 */
+	public SimulationContext(SeedGenerator seeds) {
+		this(new Clock(), seeds, RandomSource.LCG);
+	}
+	/**
+	 * Constructor for the SimulationContext class with a fresh clock, a private seed generator
+	 * and a choice of uniform generator for the random streams.
+	 * @param seeds The seed generator for the random streams of this run.
+	 * @param randomSource The kind of generator every stream of this run is built on; null selects {@link RandomSource#LCG}.
+	 */
+	public SimulationContext(SeedGenerator seeds, RandomSource randomSource) {
+		this(new Clock(), seeds, randomSource);
+	}
+	private SimulationContext(Clock clock) {
+		this(clock, SeedGenerator.getDefaultSeedGenerator(), RandomSource.LCG);
+	}
+	private SimulationContext(Clock clock, SeedGenerator seeds, RandomSource randomSource) {
+		this.clock = clock;
+		this.seeds = seeds;
+		this.randomSource = randomSource != null ? randomSource : RandomSource.LCG;
+	}
+	/**
+	 * Returns the context shared by model objects created without an explicit context.
+	 * It is backed by {@link Clock#getInstance()} and is meant for single-run code and tests.
+	 * @return The default context.
+	 */
+	public static SimulationContext getDefault() {
+		return DEFAULT;
+	}
+	/**
+	 * Returns the clock of this context.
+	 * @return The clock.
+	 */
+	public Clock getClock() {
+		return clock;
+	}
+	/**
+	 * Returns the current simulation time.
+	 * @return The current value of the clock.
+	 */
+	public double getTime() {
+		return clock.getClock();
+	}
+	/**
+	 * Returns the next entity id, starting from 1.
+	 * @return A new unique id.
+	 */
+	public int nextId() {
+		return nextId++;
+	}
+	/**
+	 * Returns a seed for a new random stream of this run.
+	 * @return A seed from this context's seed generator.
+	 */
+	public long nextSeed() {
+		seedsDrawn++;
+		return seeds.sample();
+	}
+	/**
+	 * Returns a new random stream of this run: a generator of this context's kind
+	 * seeded with {@link #nextSeed()}.
+	 * @return The uniform generator of the new stream.
+	 */
+	public ContinuousGenerator newStream() {
+		return randomSource.create(nextSeed());
+	}
+	/**
+	 * Returns the kind of generator the random streams of this run are built on.
+	 * @return The random source.
+	 */
+	public RandomSource getRandomSource() {
+		return randomSource;
+	}
+	/**
+	 * Returns how many seeds this run has drawn so far.
+	 * @return The number of calls to {@link #nextSeed()}.
+	 */
+	public long getSeedsDrawn() {
+		return seedsDrawn;
+	}
+	/**
+	 * Adds the time an entity spent in the system to the running total.
+	 * @param time The time in the system.
+	 * @return The total time in the system of all departed entities.
+	 */
+	public double addTimeInSystem(double time) {
+		totalTimeInSystem += time;
+		return totalTimeInSystem;
+	}
+	/**
+	 * Returns the total time in the system of all departed entities.
+	 * @return The running total.
+	 */
+	public double getTotalTimeInSystem() {
+		return totalTimeInSystem;
+	}
+	/**
+	 * Resets the id counter and the running statistics.
+	 */
+	public void resetCounters() {
+		nextId = 1;
+		totalTimeInSystem = 0;
+	}
+	/**
+	 * Resets the clock, the id counter and the running statistics.
+	 */
+	public void reset() {
+		clock.reset();
+		resetCounters();
+	}
+}
@@ -0,0 +1,123 @@
+package org.example.framework;
+/**
+ * Constant-memory summary of a stream of observations, such as waiting times.
+ * <p>
+ * Tracks the count, mean and variance (Welford's online algorithm), the minimum and maximum,
+ * and streaming estimates of the median, 90th and 99th percentiles ({@link P2Quantile}).
+ * Recording an observation takes constant time and does not allocate.
+ */
+public class Tally {
+	private final P2Quantile p50 = new P2Quantile(0.5);
+	private final P2Quantile p90 = new P2Quantile(0.9);
+	private final P2Quantile p99 = new P2Quantile(0.99);
+	private long count = 0;
+	private double mean = 0;
+	private double sumSquares = 0;	// sum of squared deviations from the mean
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Records an observation.
+	 * @param x The observed value.
+	 */
+	public void add(double x) {
+		count++;
+		double delta = x - mean;
+		mean += delta / count;
+		sumSquares += delta * (x - mean);
+		if (x < min) {
+			min = x;
+		}
+		if (x > max) {
+			max = x;
+		}
+		p50.add(x);
+		p90.add(x);
+		p99.add(x);
+	}
+	/**
+	 * Returns the number of observations.
+	 * @return The number of observations.
+	 */
+	public long getCount() {
+		return count;
+	}
+	/**
+	 * Returns the sample mean.
+	 * @return The mean, or 0 if nothing has been observed.
+	 */
+	public double getMean() {
+		return mean;
+	}
+	/**
+	 * Returns the sample variance.
+	 * @return The unbiased variance, or 0 for fewer than two observations.
+	 */
+	public double getVariance() {
+		return count > 1 ? sumSquares / (count - 1) : 0;
+	}
+	/**
+	 * Returns the sample standard deviation.
+	 * @return The standard deviation, or 0 for fewer than two observations.
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+	/**
+	 * Returns the smallest observation.
+	 * @return The minimum, or NaN if nothing has been observed.
+	 */
+	public double getMin() {
+		return count > 0 ? min : Double.NaN;
+	}
+	/**
+	 * Returns the largest observation.
+	 * @return The maximum, or NaN if nothing has been observed.
+	 */
+	public double getMax() {
+		return count > 0 ? max : Double.NaN;
+	}
+	/**
+	 * Returns the estimated median.
+	 * @return The 50th percentile, or NaN if nothing has been observed.
+	 */
+	public double getP50() {
+		return p50.getValue();
+	}
+	/**
+	 * Returns the estimated 90th percentile.
+	 * @return The 90th percentile, or NaN if nothing has been observed.
+	 */
+	public double getP90() {
+		return p90.getValue();
+	}
+	/**
+	 * Returns the estimated 99th percentile.
+	 * @return The 99th percentile, or NaN if nothing has been observed.
+	 */
+	public double getP99() {
+		return p99.getValue();
+	}
+	/**
+	 * Discards all observations.
+	 */
+	public void reset() {
+		count = 0;
+		mean = 0;
+		sumSquares = 0;
+		min = Double.POSITIVE_INFINITY;
+		max = Double.NEGATIVE_INFINITY;
+		p50.reset();
+		p90.reset();
+		p99.reset();
+	}
+
+	@Override
+	public String toString() {
+		if (count == 0) {
+			return "n=0";
+		}
+		return String.format("n=%d, mean=%.2f, sd=%.2f, min=%.2f, p50=%.2f, p90=%.2f, p99=%.2f, max=%.2f",
+				count, getMean(), getStandardDeviation(), getMin(), getP50(), getP90(), getP99(), getMax());
+	}
+}
@@ -0,0 +1,75 @@
+package org.example.framework;
+/**
+ * Time-weighted average of a piecewise-constant quantity, such as a queue length.
+ * <p>
+ * The value is reported only at the instants it changes; the integral over time is advanced
+ * by the previous value times the elapsed time. Updating takes constant time and does not allocate.
+ */
+public class TimeWeighted {
+	private double startTime;
+	private double lastTime;
+	private double value;
+	private double area = 0;
+	private double max;
+
+	/**
+	 * Starts integrating at the given time with the given value.
+	 * @param startTime The time integration starts.
+	 * @param initialValue The value at that time.
+	 */
+	public TimeWeighted(double startTime, double initialValue) {
+		this.startTime = startTime;
+		this.lastTime = startTime;
+		this.value = initialValue;
+		this.max = initialValue;
+	}
+	/**
+	 * Records that the quantity changes to a new value at the given time.
+	 * @param time The time of the change, not earlier than the previous update.
+	 * @param newValue The value from this time on.
+	 */
+	public void update(double time, double newValue) {
+		area += value * (time - lastTime);
+		lastTime = time;
+		value = newValue;
+		if (newValue > max) {
+			max = newValue;
+		}
+	}
+	/**
+	 * Returns the time average from the start up to the given time.
+	 * @param now The end of the averaging interval, not earlier than the last update.
+	 * @return The time-weighted mean, or the current value if no time has passed.
+	 */
+	public double getMean(double now) {
+		double elapsed = now - startTime;
+		if (elapsed <= 0) {
+			return value;
+		}
+		return (area + value * (now - lastTime)) / elapsed;
+	}
+	/**
+	 * Returns the current value.
+	 * @return The value set by the last update.
+	 */
+	public double getValue() {
+		return value;
+	}
+	/**
+	 * Returns the largest value seen.
+	 * @return The maximum value.
+	 */
+	public double getMax() {
+		return max;
+	}
+	/**
+	 * Restarts integration at the given time, keeping the current value.
+	 * @param time The new start time.
+	 */
+	public void reset(double time) {
+		startTime = time;
+		lastTime = time;
+		area = 0;
+		max = value;
+	}
+}
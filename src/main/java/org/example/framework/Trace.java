@@ -1,25 +1,87 @@
 package org.example.framework;
+
+import java.util.function.Supplier;
 /**
  * This class represents the trace of the simulation.
+ * <p>
+ * Messages below the trace level are discarded with a single comparison. Callers that build a
+ * message by concatenation should use the {@link Supplier} overload, so the message is only
+ * built when the level is enabled. Output goes to a {@link Sink}; the default sink prints to
+ * the console, and {@link AsyncTraceSink} moves console I/O off the simulation thread.
  */
 public class Trace {
 	public enum Level{INFO, WAR, ERR}
 	private static Level traceLevel;
+	/** Ordinal of the lowest enabled level */
+	private static int threshold = 0;
+	private static Sink sink = System.out::println;
+
+	/**
+	 * Destination of trace messages.
+	 */
+	@FunctionalInterface
+	public interface Sink {
+		/**
+		 * Writes one trace message.
+		 * @param line The message.
+		 */
+		void write(String line);
+	}
 	/**
 	 * Sets the trace level of the simulation.
 	 * @param lvl The trace level to set.
 	 */
 	public static void setTraceLevel(Level lvl){
 		traceLevel = lvl;
+		threshold = lvl.ordinal();
+	}
+	/**
+	 * Returns the trace level of the simulation.
+	 * @return The trace level, or null if it has not been set.
+	 */
+	public static Level getTraceLevel() {
+		return traceLevel;
+	}
+	/**
+	 * Sets the destination of trace messages.
+	 * @param newSink The sink to write to.
+	 */
+	public static void setSink(Sink newSink) {
+		sink = newSink;
+	}
+	/**
+	 * Returns the destination of trace messages.
+	 * @return The current sink.
+	 */
+	public static Sink getSink() {
+		return sink;
+	}
+	/**
+	 * Checks whether messages of the given level are written.
+	 * @param lvl The level to check.
+	 * @return true if messages of this level are enabled.
+	 */
+	public static boolean isEnabled(Level lvl) {
+		return lvl.ordinal() >= threshold;
 	}
 	/**
-	 * Outputs a message to the console.
+	 * Outputs a message to the trace sink.
 	 * @param lvl The level of the message.
 	 * @param txt The text of the message.
 	 */
 	public static void out(Level lvl, String txt){
-		if (lvl.ordinal() >= traceLevel.ordinal()){
-			System.out.println(txt);
+		if (lvl.ordinal() >= threshold){
+			sink.write(txt);
+		}
+	}
+	/**
+	 * Outputs a message to the trace sink, building it only if the level is enabled.
+	 * @param lvl The level of the message.
+	 * @param message Supplies the text of the message.
+	 */
+	public static void out(Level lvl, Supplier<String> message){
+		if (lvl.ordinal() >= threshold){
+			sink.write(message.get());
 		}
 	}
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package org.example.model;
 
-import org.example.framework.Clock;
+import org.example.framework.SimulationContext;
 import org.example.framework.Trace;
 /**
  * Represents a customer in the bank simulation system.
@@ -16,23 +16,36 @@ public class Customer {
 	private double removalTime;
 	/** Time when customer enters the queue */
 	private double queueStartTime;
+	/** Total time spent waiting in queues */
+	private double queueTime;
+	/** Total time spent in service */
+	private double serviceTime;
 	/** Unique identifier for the customer */
 	private int id;
 	/** Type of customer */
 	private CustomerType type;
-	/** Static counter for customer IDs */
-	private static int i = 1;
-	/** Static counter for customer service times */
-	private static long sum = 0;
+	/** Simulation run this customer belongs to */
+	private final SimulationContext context;
 	/**
-	 * Constructs a new Customer with the specified type.
+	 * Constructs a new Customer with the specified type in the default context.
 	 *
 	 * @param type The type of the customer
 	 */
 	public Customer(CustomerType type){
+		this(type, SimulationContext.getDefault());
+	}
+	/**
+	 * Constructs a new Customer with the specified type.
+	 * The ID and arrival time come from the given simulation context.
+	 *
+	 * @param type The type of the customer
+	 * @param context The simulation context of the run
+	 */
+	public Customer(CustomerType type, SimulationContext context){
 		this.type = type;
-		id = i++;
-		arrivalTime = Clock.getInstance().getClock();
+		this.context = context;
+		id = context.nextId();
+		arrivalTime = context.getTime();
 	}
 	/**
 	 * Returns the type of the customer.
@@ -42,12 +55,11 @@ public class Customer {
 		return type;
 	}
 	/**
-	 * Resets the customer counter and timing statistics.
-	 * Used when starting a new simulation.
+	 * Resets the customer counter and timing statistics of the default context.
+	 * Engines own their context, so this only affects customers created without one.
 	 */
 	public static void resetCustomerCount() {
-		i = 1;
-		sum = 0;
+		SimulationContext.getDefault().resetCounters();
 	}
 	/**
 	 * Gets the time when customer left the system.
@@ -99,6 +111,38 @@ public class Customer {
 	public double getQueueStartTime() {
 		return queueStartTime;
 	}
+	/**
+	 * Adds time spent waiting in a queue.
+	 *
+	 * @param time Waiting time in simulation units
+	 */
+	public void addQueueTime(double time) {
+		queueTime += time;
+	}
+	/**
+	 * Gets the total time the customer has spent waiting in queues.
+	 *
+	 * @return Total waiting time in simulation units
+	 */
+	public double getQueueTime() {
+		return queueTime;
+	}
+	/**
+	 * Adds time spent in service.
+	 *
+	 * @param time Service time in simulation units
+	 */
+	public void addServiceTime(double time) {
+		serviceTime += time;
+	}
+	/**
+	 * Gets the total time the customer has spent in service.
+	 *
+	 * @return Total service time in simulation units
+	 */
+	public double getServiceTime() {
+		return serviceTime;
+	}
 	/**
 	 * Gets the customer's unique identifier.
 	 *
@@ -112,13 +156,12 @@ public class Customer {
 	 * Calculates and displays mean service time across all customers.
 	 */
 	public void reportResults(){
-		Trace.out(Trace.Level.INFO, "\nCustomer " + id + " ready! ");
-		Trace.out(Trace.Level.INFO, "Customer "   + id + " arrived: " + arrivalTime);
-		Trace.out(Trace.Level.INFO,"Customer "    + id + " removed: " + removalTime);
-		Trace.out(Trace.Level.INFO,"Customer "    + id + " stayed: "  + (removalTime - arrivalTime));
+		Trace.out(Trace.Level.INFO, () -> "\nCustomer " + id + " ready! ");
+		Trace.out(Trace.Level.INFO, () -> "Customer "   + id + " arrived: " + arrivalTime);
+		Trace.out(Trace.Level.INFO, () -> "Customer "    + id + " removed: " + removalTime);
+		Trace.out(Trace.Level.INFO, () -> "Customer "    + id + " stayed: "  + (removalTime - arrivalTime));
 
-		sum += (removalTime - arrivalTime);
-		double mean = sum/id;
-		System.out.println("Current mean of the customer service times " + mean);
+		double sum = context.addTimeInSystem(removalTime - arrivalTime);
+		Trace.out(Trace.Level.INFO, () -> "Current mean of the customer service times " + sum/id);
 	}
 }
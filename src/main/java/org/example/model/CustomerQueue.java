@@ -0,0 +1,129 @@
+package org.example.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+/**
+ * A FIFO queue of customers stored in a growable ring buffer.
+ * <p>
+ * Adding and removing customers does not allocate once the buffer has grown to the
+ * largest queue length seen; the capacity doubles when the buffer is full and is never reduced.
+ * As a {@link java.util.List}, the queue reads from head (next to be served) to tail,
+ * with O(1) positional access, so it can be exposed directly as a read-only view.
+ */
+public class CustomerQueue extends AbstractList<Customer> implements RandomAccess {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Customer[] elements;
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Creates an empty queue with the default initial capacity.
+	 */
+	public CustomerQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+	/**
+	 * Creates an empty queue.
+	 *
+	 * @param initialCapacity Number of customers the queue holds before growing, rounded up to a power of two
+	 */
+	public CustomerQueue(int initialCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1;
+		elements = new Customer[Math.max(capacity, 2)];
+	}
+	/**
+	 * Appends a customer to the tail of the queue.
+	 *
+	 * @param customer The customer to add
+	 * @return Always true
+	 */
+	@Override
+	public boolean add(Customer customer) {
+		if (size == elements.length) {
+			grow();
+		}
+		elements[(head + size) & (elements.length - 1)] = customer;
+		size++;
+		modCount++;
+		return true;
+	}
+	/**
+	 * Removes and returns the customer at the head of the queue.
+	 *
+	 * @return The head customer, or null if the queue is empty
+	 */
+	public Customer poll() {
+		if (size == 0) {
+			return null;
+		}
+		Customer customer = elements[head];
+		elements[head] = null;
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		modCount++;
+		return customer;
+	}
+	/**
+	 * Returns the customer at the head of the queue without removing it.
+	 *
+	 * @return The head customer, or null if the queue is empty
+	 */
+	public Customer peek() {
+		return size == 0 ? null : elements[head];
+	}
+	/**
+	 * Returns the customer at the given position, counted from the head.
+	 *
+	 * @param index Position in the queue, 0 being the head
+	 * @return The customer at that position
+	 */
+	@Override
+	public Customer get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return elements[(head + index) & (elements.length - 1)];
+	}
+	/**
+	 * Returns the number of customers in the queue.
+	 *
+	 * @return The queue length
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	/**
+	 * Removes all customers from the queue.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(elements, null);
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+	/**
+	 * Copies the queued customers, head first, into a caller-supplied buffer.
+	 * Copies as many customers as fit; the return value tells whether the buffer was large enough.
+	 *
+	 * @param buffer The array to fill
+	 * @return The queue length, which may exceed the number of customers copied
+	 */
+	public int copyTo(Customer[] buffer) {
+		int count = Math.min(size, buffer.length);
+		int first = Math.min(count, elements.length - head);
+		System.arraycopy(elements, head, buffer, 0, first);
+		System.arraycopy(elements, 0, buffer, first, count - first);
+		return size;
+	}
+
+	private void grow() {
+		Customer[] larger = new Customer[elements.length * 2];
+		copyTo(larger);
+		elements = larger;
+		head = 0;
+	}
+}
@@ -1,17 +1,30 @@
 package org.example.model;
 
+import org.example.eduni.distributions.BufferedGenerator;
+import org.example.eduni.distributions.Categorical;
+import org.example.eduni.distributions.ContinuousGenerator;
+import org.example.eduni.distributions.Generator;
 import org.example.eduni.distributions.Negexp;
 import org.example.eduni.distributions.Normal;
-import org.example.eduni.distributions.Poisson;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.eduni.distributions.SeedGenerator;
 import org.example.framework.ArrivalProcess;
-import org.example.framework.Clock;
 import org.example.framework.Engine;
 import org.example.framework.Event;
+import org.example.framework.EventList;
+import org.example.framework.LatencyHistogram;
+import org.example.framework.SimulationContext;
+import org.example.framework.Tally;
+import org.example.framework.Trace;
 import org.example.controller.SimulatorController;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Core simulation engine for the bank queuing system.
@@ -25,11 +38,51 @@ public class MyEngine extends Engine {
 	private ServicePoint queueAutomat; // Queue number dispenser
 	private ServicePoint[] transactionTellers;
 	private ServicePoint[] accountTellers;
-	private Map<String, List<Customer>> queueStatus = new HashMap<>();
-	private SimulatorController controller;
+	private final ShortestQueueIndex transactionQueues;
+	private final ShortestQueueIndex accountQueues;
+	/** All service points by slot: the automat, then the transaction tellers, then the account tellers */
+	private final ServicePoint[] pointsBySlot;
+	/** Slots whose queue changed since the last C-phase, in the order they changed */
+	private final int[] dirtySlots;
+	private final boolean[] dirtyFlags;
+	private int dirtyCount = 0;
+	/** Two snapshot buffers used in turn; the consumer holds at most the one it took last */
+	private final QueueSnapshot[] snapshotBuffers;
+	private int nextSnapshotBuffer = 0;
+	/** Single-slot handoff to the consumer; empty once the consumer has taken the last snapshot */
+	private final AtomicReference<QueueSnapshot> publishedSnapshot = new AtomicReference<>();
+	/** Number of events processed, used as the snapshot version */
+	private long stateVersion = 0;
+	/** True if the queues changed since the last published snapshot */
+	private boolean snapshotPending = false;
+	private SimulatorController controller; // null when running headless
+	private final SimulationParameters parameters;
 	private final int numberOfStations;
+	private final SamplingMethod samplingMethod;
 	private double arrivalInterval;
 	private int totalCustomersServed = 0;
+	private String resultsReport = "";
+	private final Map<String, Double> metrics = new LinkedHashMap<>();
+	/** Per customer type: total queue time, total service time and time in system */
+	private final Map<CustomerType, Tally> queueTimesByType = new EnumMap<>(CustomerType.class);
+	private final Map<CustomerType, Tally> serviceTimesByType = new EnumMap<>(CustomerType.class);
+	private final Map<CustomerType, Tally> sojournTimesByType = new EnumMap<>(CustomerType.class);
+	private final Map<CustomerType, LatencyHistogram> sojournHistogramsByType = new EnumMap<>(CustomerType.class);
+	/** Customer types, indexed by the category drawn from the type sampler */
+	private static final CustomerType[] CUSTOMER_TYPES = CustomerType.values();
+	/** Draws the type of every arriving customer, built for {@link #typeSamplerPercentage} */
+	private Categorical typeSampler;
+	private double typeSamplerPercentage = Double.NaN;
+	/** Event handlers indexed by {@link EventType#ordinal()} */
+	private final EventHandler[] handlers = new EventHandler[EventType.values().length];
+
+	/**
+	 * Processes one event; registered per event type in the dispatch table.
+	 */
+	@FunctionalInterface
+	private interface EventHandler {
+		void handle(Event event);
+	}
 
 
 	/**
@@ -39,44 +92,147 @@ public class MyEngine extends Engine {
 			 * @param controller The simulation controller containing configuration parameters
      */
 	public MyEngine(SimulatorController controller) {
+		this(controller, controller, new EventList(),
+				new SimulationContext(SeedGenerator.getDefaultSeedGenerator(), controller.getRandomSource()));
+	}
+
+	/**
+	 * Constructs a headless simulation engine that runs at full speed.
+	 * No animation pacing, pause polling or GUI callbacks take place; the
+	 * report is available from {@link #getResultsReport()} after {@link #run()}.
+	 *
+	 * @param parameters The configuration of the run
+	 */
+	public MyEngine(SimulationParameters parameters) {
+		this(parameters, SeedGenerator.getDefaultSeedGenerator());
+	}
+
+	/**
+	 * Constructs a headless simulation engine whose random streams are seeded from the
+	 * given seed generator, so that the run is reproducible and independent of other engines.
+	 *
+	 * @param parameters The configuration of the run
+	 * @param seeds The seed generator for all random streams of this run
+	 */
+	public MyEngine(SimulationParameters parameters, SeedGenerator seeds) {
+		this(parameters, new SimulationContext(seeds, parameters.getRandomSource()));
+	}
+
+	private MyEngine(SimulationParameters parameters, SimulationContext context) {
+		this(parameters, null, EventList.create(parameters.getEventListImplementation()), context);
+		setSimulationTime(parameters.getSimulationTime());
+	}
+
+	private MyEngine(SimulationParameters parameters, SimulatorController controller, EventList eventList, SimulationContext context) {
+		super(eventList, context);
 		this.controller = controller;
-		this.numberOfStations = controller.getNumberOfStations();
-		this.arrivalInterval = controller.getArrivalInterval();
+		this.parameters = parameters;
+		this.numberOfStations = parameters.getNumberOfStations();
+		this.arrivalInterval = parameters.getArrivalInterval();
+		SamplingMethod method = parameters.getSamplingMethod();
+		this.samplingMethod = method != null ? method : SamplingMethod.LEGACY;
 
 		// Initialize queue automat
 		queueAutomat = new ServicePoint(
-				new Normal(1, 1),
+				buffered(new Normal(1, 1, context.newStream())),
 				eventList,
-				EventType.DEP_AUTOMAT
+				EventType.DEP_AUTOMAT,
+				context
 		);
 
 		// Initialize transaction tellers
 		transactionTellers = new ServicePoint[numberOfStations];
 		for(int i = 0; i < numberOfStations; i++) {
 			transactionTellers[i] = new ServicePoint(
-					new Normal(controller.getTransactionServiceTime(), controller.getTransactionServiceTime()/2),
+					buffered(new Normal(parameters.getTransactionServiceTime(), parameters.getTransactionServiceTime()/2, context.newStream())),
 					eventList,
-					EventType.valueOf("DEP_TELLER" + (i+1))
+					EventType.DEP_TELLER,
+					i,
+					context
 			);
 		}
 
 		// Initialize account tellers
-		int numAccountTellers = controller.getNumberOfAccountStations();
+		int numAccountTellers = parameters.getNumberOfAccountStations();
 		accountTellers = new ServicePoint[numAccountTellers];
 		for(int i = 0; i < numAccountTellers; i++) {
 			accountTellers[i] = new ServicePoint(
-					new Normal(controller.getAccountServiceTime(), controller.getAccountServiceTime()/2),
+					buffered(new Normal(parameters.getAccountServiceTime(), parameters.getAccountServiceTime()/2, context.newStream())),
 					eventList,
-					EventType.valueOf("DEP_ACCOUNT" + (i+1))
+					EventType.DEP_ACCOUNT,
+					i,
+					context
 			);
 		}
 
+		// Index queue lengths for join-shortest-queue routing and track points needing a C-phase check.
+		// Slot 0 is the automat, then the transaction tellers, then the account tellers.
+		transactionQueues = new ShortestQueueIndex(transactionTellers);
+		accountQueues = new ShortestQueueIndex(accountTellers);
+		int points = 1 + transactionTellers.length + accountTellers.length;
+		pointsBySlot = new ServicePoint[points];
+		dirtySlots = new int[points];
+		dirtyFlags = new boolean[points];
+		pointsBySlot[0] = queueAutomat;
+		queueAutomat.setQueueListener(sp -> markDirty(0));
+		for (ServicePoint teller : transactionTellers) {
+			int slot = 1 + teller.getIndex();
+			pointsBySlot[slot] = teller;
+			teller.setQueueListener(sp -> {
+				transactionQueues.update(sp.getIndex());
+				markDirty(slot);
+			});
+		}
+		for (ServicePoint teller : accountTellers) {
+			int slot = 1 + transactionTellers.length + teller.getIndex();
+			pointsBySlot[slot] = teller;
+			teller.setQueueListener(sp -> {
+				accountQueues.update(sp.getIndex());
+				markDirty(slot);
+			});
+		}
+
+		for (CustomerType type : CustomerType.values()) {
+			queueTimesByType.put(type, new Tally());
+			serviceTimesByType.put(type, new Tally());
+			sojournTimesByType.put(type, new Tally());
+			sojournHistogramsByType.put(type, new LatencyHistogram());
+		}
+
+		snapshotBuffers = new QueueSnapshot[] {
+				new QueueSnapshot(transactionTellers.length, accountTellers.length),
+				new QueueSnapshot(transactionTellers.length, accountTellers.length)
+		};
+
 		// Initialize arrival process
 		arrivalProcess = new ArrivalProcess(
-				new Negexp(controller.getArrivalInterval()),
+				buffered(new Negexp(parameters.getArrivalInterval(), context.newStream())),
 				eventList,
-				EventType.ARR_AUTOMAT
+				EventType.ARR_AUTOMAT,
+				context
 		);
+
+		registerHandlers();
+	}
+	/**
+	 * Applies the configured sampling method to a newly created generator.
+	 *
+	 * @param generator The generator
+	 * @return The same generator
+	 */
+	private <G extends Generator> G sampled(G generator) {
+		generator.setSamplingMethod(samplingMethod);
+		return generator;
+	}
+	/**
+	 * Applies the configured sampling method to a newly created generator and buffers its samples,
+	 * so events read their times from a block drawn in one bulk call instead of calling the distribution.
+	 *
+	 * @param generator The generator
+	 * @return The buffered generator
+	 */
+	private <G extends Generator & ContinuousGenerator> ContinuousGenerator buffered(G generator) {
+		return new BufferedGenerator(sampled(generator));
 	}
 	/**
 	 * Updates the arrival interval and regenerates the arrival process.
@@ -86,9 +242,10 @@ public class MyEngine extends Engine {
 	public void setArrivalInterval(double interval) {
 		this.arrivalInterval = interval;
 		arrivalProcess = new ArrivalProcess(
-				new Negexp(arrivalInterval),
+				buffered(new Negexp(arrivalInterval, context.newStream())),
 				eventList,
-				EventType.ARR_AUTOMAT
+				EventType.ARR_AUTOMAT,
+				context
 		);
 		arrivalProcess.generateNextEvent();
 	}
@@ -99,9 +256,10 @@ public class MyEngine extends Engine {
 	@Override
 	public void initialize() {
 		arrivalProcess = new ArrivalProcess(
-				new Negexp(arrivalInterval),
+				buffered(new Negexp(arrivalInterval, context.newStream())),
 				eventList,
-				EventType.ARR_AUTOMAT
+				EventType.ARR_AUTOMAT,
+				context
 		);
 		arrivalProcess.generateNextEvent();
 	}
@@ -113,12 +271,135 @@ public class MyEngine extends Engine {
 	 */
 	@Override
 	public void runEvent(Event t) {
+		if (!isHeadless() && !pace()) {
+			return;
+		}
+		handlers[((EventType) t.getType()).ordinal()].handle(t);
+		if (!isHeadless()) {
+			stateVersion++;
+			publishQueueSnapshot();
+		}
+	}
+
+	/**
+	 * Registers the handler of every event type in the dispatch table.
+	 */
+	private void registerHandlers() {
+		handlers[EventType.ARR_AUTOMAT.ordinal()] = e -> handleArrival();
+		handlers[EventType.DEP_AUTOMAT.ordinal()] = e -> handleAutomatDeparture();
+		handlers[EventType.ARR_TELLER.ordinal()] = e -> { };
+		handlers[EventType.DEP_TELLER.ordinal()] = e -> handleDeparture(transactionTellers, e.getIndex());
+		handlers[EventType.DEP_ACCOUNT.ordinal()] = e -> handleDeparture(accountTellers, e.getIndex());
+	}
+
+	/**
+	 * Handles a customer arriving at the queue automat and schedules the next arrival.
+	 */
+	private void handleArrival() {
+		CustomerType type = CUSTOMER_TYPES[(int) customerTypeSampler().sample()];
+		Trace.out(Trace.Level.INFO, () -> "Customer arrived: " + type);
+		Customer newCustomer = new Customer(type, context);
+		queueAutomat.addQueue(newCustomer);
+		arrivalProcess.generateNextEvent();
+	}
+
+	/**
+	 * Returns the sampler of customer types for the current client distribution.
+	 * It is built on first use and built again only when the distribution changes.
+	 *
+	 * @return The customer type sampler
+	 */
+	private Categorical customerTypeSampler() {
+		double percentage = parameters.getClientDistribution();
+		if (percentage != typeSamplerPercentage) {
+			typeSampler = sampled(new Categorical(customerTypeWeights(percentage), context.newStream()));
+			typeSamplerPercentage = percentage;
+		}
+		return typeSampler;
+	}
+
+	/**
+	 * Computes the weights of the customer types, indexed by ordinal, for a client distribution.
+	 * The percentage is bucketed, and a customer is a transaction client with probability
+	 * exp(-mean), the chance that a Poisson variate with the bucket's mean is 0.
+	 *
+	 * @param percentage Percentage (0-100) of transaction clients
+	 * @return The weight of every customer type
+	 */
+	private static double[] customerTypeWeights(double percentage) {
+		double poissonMean;
+		if (percentage >= 90) poissonMean = 0.01;
+		else if (percentage >= 80) poissonMean = 0.1;
+		else if (percentage >= 70) poissonMean = 0.3;
+		else if (percentage >= 60) poissonMean = 0.5;
+		else if (percentage >= 50) poissonMean = 0.7;
+		else if (percentage >= 40) poissonMean = 0.9;
+		else if (percentage >= 30) poissonMean = 1.1;
+		else if (percentage >= 20) poissonMean = 1.3;
+		else poissonMean = 1.5;
+
+		double[] weights = new double[CUSTOMER_TYPES.length];
+		weights[CustomerType.TRANSACTION_CLIENT.ordinal()] = Math.exp(-poissonMean);
+		weights[CustomerType.ACCOUNT_CLIENT.ordinal()] = 1 - Math.exp(-poissonMean);
+		return weights;
+	}
+
+	/**
+	 * Handles a customer leaving the queue automat and routes them to the shortest teller queue.
+	 */
+	private void handleAutomatDeparture() {
+		Customer a = queueAutomat.removeQueue();
+		if (a != null) {
+			if(a.getType() == CustomerType.TRANSACTION_CLIENT) {
+				ServicePoint bestTeller = transactionQueues.shortest();
+				bestTeller.addQueue(a);
+			} else {
+				ServicePoint bestAccountTeller = accountQueues.shortest();
+				bestAccountTeller.addQueue(a);
+			}
+		}
+	}
+
+	/**
+	 * Handles a customer leaving the system from a teller.
+	 *
+	 * @param tellers The tellers of the departure's kind
+	 * @param index The index of the teller carried by the departure event
+	 */
+	private void handleDeparture(ServicePoint[] tellers, int index) {
+		if (index < tellers.length) {
+			Customer a = tellers[index].removeQueue();
+			if (a != null) {
+				a.setRemovalTime(context.getTime());
+				a.reportResults();
+				queueTimesByType.get(a.getType()).add(a.getQueueTime());
+				serviceTimesByType.get(a.getType()).add(a.getServiceTime());
+				sojournTimesByType.get(a.getType()).add(a.getRemovalTime() - a.getArrivalTime());
+				sojournHistogramsByType.get(a.getType()).record(a.getRemovalTime() - a.getArrivalTime());
+				totalCustomersServed++;
+				if (!isHeadless()) {
+					controller.updateCustomerCount(totalCustomersServed);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the GUI animation pacing: waits while paused, then sleeps for the
+	 * controller's current sleep time.
+	 *
+	 * @return false if the simulation thread was interrupted and the event should be skipped
+	 */
+	private boolean pace() {
 		while (isPaused()) {
+			if (snapshotPending) {
+				publishQueueSnapshot();
+			}
 			try {
 				Thread.sleep(100);
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
-				return;
+				return false;
 			}
 		}
 		long sleepTime = Math.max(0, controller.getSleepTime());
@@ -126,114 +407,56 @@ public class MyEngine extends Engine {
 			Thread.sleep(sleepTime);
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
-			return;
+			return false;
 		}
 		try {
 			Thread.sleep(controller.getSleepTime());
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 		}
-		Customer a;
-		EventType eventType = (EventType)t.getType();
-
-		switch (eventType) {
-			case ARR_AUTOMAT:
-				double poissonMean;
-				double percentage = controller.getClientDistribution();
-
-				if (percentage >= 90) poissonMean = 0.01;
-				else if (percentage >= 80) poissonMean = 0.1;
-				else if (percentage >= 70) poissonMean = 0.3;
-				else if (percentage >= 60) poissonMean = 0.5;
-				else if (percentage >= 50) poissonMean = 0.7;
-				else if (percentage >= 40) poissonMean = 0.9;
-				else if (percentage >= 30) poissonMean = 1.1;
-				else if (percentage >= 20) poissonMean = 1.3;
-				else poissonMean = 1.5;
-
-				CustomerType type = new Poisson(poissonMean).sample() == 0 ?
-						CustomerType.TRANSACTION_CLIENT :
-						CustomerType.ACCOUNT_CLIENT;
-				System.out.println("Customer arrived: " + type);
-				Customer newCustomer = new Customer(type);
-				queueAutomat.addQueue(newCustomer);
-				Event nextArrival = new Event(EventType.ARR_AUTOMAT,
-						Clock.getInstance().getClock() + new Negexp(arrivalInterval).sample());
-				eventList.add(nextArrival);
-				updateQueueStatus();
-				break;
-
-			case DEP_AUTOMAT:
-				a = queueAutomat.removeQueue();
-				if (a != null) {
-					if(a.getType() == CustomerType.TRANSACTION_CLIENT) {
-						ServicePoint bestTeller = findShortestQueue(transactionTellers);
-						bestTeller.addQueue(a);
-					} else {
-						ServicePoint bestAccountTeller = findShortestAccountQueue();
-						bestAccountTeller.addQueue(a);
-					}
-				}
-				updateQueueStatus();
-				break;
-
-			default:
-				if (eventType.toString().startsWith("DEP_TELLER")) {
-					int tellerIndex = Integer.parseInt(eventType.toString().substring(10)) - 1;
-					if (tellerIndex < transactionTellers.length) {
-						a = transactionTellers[tellerIndex].removeQueue();
-						if (a != null) {
-							a.setRemovalTime(Clock.getInstance().getClock());
-							a.reportResults();
-							totalCustomersServed++;
-							controller.updateCustomerCount(totalCustomersServed);
-						}
-					}
-				} else if (eventType.toString().startsWith("DEP_ACCOUNT")) {
-					int accountIndex = Integer.parseInt(eventType.toString().substring(11)) - 1;
-					if (accountIndex < accountTellers.length) {
-						a = accountTellers[accountIndex].removeQueue();
-						if (a != null) {
-							a.setRemovalTime(Clock.getInstance().getClock());
-							a.reportResults();
-							totalCustomersServed++;
-							controller.updateCustomerCount(totalCustomersServed);
-						}
-					}
-				}
-				updateQueueStatus();
-				break;
-		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the engine runs without a GUI controller.
+	 *
+	 * @return True if no controller is attached
+	 */
+	private boolean isHeadless() {
+		return controller == null;
 	}
+
 	/**
 	 * Attempts to start service for customers waiting in queues.
 	 * Checks all service points for available capacity.
 	 */
 	@Override
 	protected void tryCEvents() {
-		// Check queue automat
-		if (!queueAutomat.isReserved() && queueAutomat.isOnQueue()) {
-			queueAutomat.beginService();
-		}
-
-		// Check transaction tellers
-		for (ServicePoint teller : transactionTellers) {
-			if (!teller.isReserved() && teller.isOnQueue()) {
-				teller.beginService();
+		// Only points whose queue or reservation changed during the B-phase can start a service;
+		// a departure both frees the point and removes a customer, so it is marked as well.
+		for (int i = 0; i < dirtyCount; i++) {
+			int slot = dirtySlots[i];
+			dirtyFlags[slot] = false;
+			ServicePoint point = pointsBySlot[slot];
+			if (!point.isReserved() && point.isOnQueue()) {
+				point.beginService();
 			}
 		}
+		dirtyCount = 0;
+	}
 
-		// Check account tellers
-		for (ServicePoint teller : accountTellers) {
-			if (!teller.isReserved() && teller.isOnQueue()) {
-				teller.beginService();
-			}
+	/**
+	 * Records that a service point must be checked in the next C-phase.
+	 *
+	 * @param slot The slot of the service point whose queue changed
+	 */
+	private void markDirty(int slot) {
+		if (!dirtyFlags[slot]) {
+			dirtyFlags[slot] = true;
+			dirtySlots[dirtyCount++] = slot;
 		}
 	}
 
-
-
-
 	/**
 	 * Generates final simulation statistics and results.
 	 * Collects data from all service points and reports to controller.
@@ -246,15 +469,15 @@ public class MyEngine extends Engine {
 		stats.append("\n=== Simulation Settings ===\n");
 		stats.append("Number of Transaction Tellers: " + numberOfStations + "\n");
 		stats.append(String.format("Client Arrival Interval: %.2f minutes\n", arrivalInterval));
-		stats.append(String.format("Transaction Service Time: %.2f minutes\n", controller.getTransactionServiceTime()));
-		stats.append(String.format("Account Service Time: %.2f minutes\n", controller.getAccountServiceTime()));
+		stats.append(String.format("Transaction Service Time: %.2f minutes\n", parameters.getTransactionServiceTime()));
+		stats.append(String.format("Account Service Time: %.2f minutes\n", parameters.getAccountServiceTime()));
 		stats.append(String.format("Client Distribution (Transaction/Account): %.1f%% / %.1f%%\n",
-				controller.getClientDistribution(),
-				(100 - controller.getClientDistribution())));
+				parameters.getClientDistribution(),
+				(100 - parameters.getClientDistribution())));
 
 		// Results Section
 		stats.append("\n=== Simulation Results ===\n");
-		stats.append(String.format("Simulation ended at: %.2f minutes\n", Clock.getInstance().getClock()));
+		stats.append(String.format("Simulation ended at: %.2f minutes\n", context.getTime()));
 		stats.append("Total Customers Served: " + totalCustomersServed + "\n");
 
 		// Service Points Statistics
@@ -277,7 +500,129 @@ public class MyEngine extends Engine {
 		}
 		stats.append("Total Account Customers: " + totalAccountCustomers + "\n");
 
-		controller.onSimulationComplete(stats.toString());
+		stats.append("\n=== Time-Averaged Statistics ===\n");
+		stats.append(getTimeAverageStats(queueAutomat, "Queue Automat"));
+		for (int i = 0; i < transactionTellers.length; i++) {
+			stats.append(getTimeAverageStats(transactionTellers[i], "Teller " + (i+1)));
+		}
+		for (int i = 0; i < accountTellers.length; i++) {
+			stats.append(getTimeAverageStats(accountTellers[i], "Account Teller " + (i+1)));
+		}
+
+		stats.append("\n=== Latency Distribution by Customer Type ===\n");
+		for (CustomerType type : CustomerType.values()) {
+			stats.append(type == CustomerType.TRANSACTION_CLIENT ? "Transaction Clients:\n" : "Account Clients:\n");
+			stats.append(getTallyStats("Queue Time", queueTimesByType.get(type)));
+			stats.append(getTallyStats("Service Time", serviceTimesByType.get(type)));
+			stats.append(getTallyStats("Time In System", sojournTimesByType.get(type)));
+		}
+
+		collectMetrics();
+		if (isHeadless()) {
+			stats.append("\n=== Engine Performance ===\n");
+			stats.append("Event List: " + eventList.getImplementation() + "\n");
+			stats.append("Events Processed: " + getEventCount() + "\n");
+			stats.append(String.format("Wall-clock Time: %.3f seconds\n", getWallTimeNanos() / 1e9));
+			stats.append(String.format("Throughput: %.0f events/sec\n", getEventsPerSecond()));
+		}
+		resultsReport = stats.toString();
+		if (!isHeadless()) {
+			publishFinalQueueSnapshot();
+			controller.onSimulationComplete(resultsReport);
+		}
+	}
+
+	/**
+	 * Records the numeric results of the run, keyed by metric name.
+	 * Tellers of the same kind are pooled, weighting each teller by the customers it served.
+	 */
+	private void collectMetrics() {
+		metrics.clear();
+		metrics.put("Customers Served", (double) totalCustomersServed);
+		metrics.put("Mean Time In System", totalCustomersServed > 0 ? context.getTotalTimeInSystem() / totalCustomersServed : 0);
+		metrics.put("Automat Queue Time", queueAutomat.getAverageQueueTime());
+		putPooledMetrics("Transaction", transactionTellers);
+		putPooledMetrics("Account", accountTellers);
+		metrics.put("Automat Utilization", queueAutomat.getUtilization());
+		putTimeAverageMetrics("Transaction", transactionTellers);
+		putTimeAverageMetrics("Account", accountTellers);
+		putTailMetrics("Transaction", sojournTimesByType.get(CustomerType.TRANSACTION_CLIENT));
+		putTailMetrics("Account", sojournTimesByType.get(CustomerType.ACCOUNT_CLIENT));
+	}
+
+	private void putTimeAverageMetrics(String kind, ServicePoint[] tellers) {
+		double utilization = 0;
+		double queueLength = 0;
+		for (ServicePoint sp : tellers) {
+			utilization += sp.getUtilization();
+			queueLength += sp.getAverageQueueLength();
+		}
+		metrics.put(kind + " Utilization", tellers.length > 0 ? utilization / tellers.length : 0);
+		metrics.put(kind + " Mean Queue Length", queueLength);
+	}
+
+	private void putTailMetrics(String kind, Tally timeInSystem) {
+		boolean empty = timeInSystem.getCount() == 0;
+		metrics.put(kind + " Time In System P50", empty ? 0 : timeInSystem.getP50());
+		metrics.put(kind + " Time In System P90", empty ? 0 : timeInSystem.getP90());
+		metrics.put(kind + " Time In System P99", empty ? 0 : timeInSystem.getP99());
+	}
+
+	private void putPooledMetrics(String kind, ServicePoint[] tellers) {
+		int served = 0;
+		double queueTime = 0;
+		double serviceTime = 0;
+		for (ServicePoint sp : tellers) {
+			served += sp.getServedCustomers();
+			queueTime += sp.getAverageQueueTime() * sp.getServedCustomers();
+			serviceTime += sp.getAverageServiceTime() * sp.getServedCustomers();
+		}
+		metrics.put(kind + " Customers", (double) served);
+		metrics.put(kind + " Queue Time", served > 0 ? queueTime / served : 0);
+		metrics.put(kind + " Service Time", served > 0 ? serviceTime / served : 0);
+	}
+
+	/**
+	 * Returns latency histograms of the run: waiting times at the automat and, pooled over
+	 * the tellers of each kind, at the tellers, plus the time in system per customer type.
+	 * The histograms are copies and can be merged across replications.
+	 *
+	 * @return Map of histogram names to histograms, in report order
+	 */
+	public Map<String, LatencyHistogram> getHistograms() {
+		Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+		histograms.put("Automat Wait", queueAutomat.getWaitHistogram().copy());
+		histograms.put("Transaction Wait", pooledWaitHistogram(transactionTellers));
+		histograms.put("Account Wait", pooledWaitHistogram(accountTellers));
+		histograms.put("Transaction Time In System", sojournHistogramsByType.get(CustomerType.TRANSACTION_CLIENT).copy());
+		histograms.put("Account Time In System", sojournHistogramsByType.get(CustomerType.ACCOUNT_CLIENT).copy());
+		return histograms;
+	}
+
+	private LatencyHistogram pooledWaitHistogram(ServicePoint[] tellers) {
+		LatencyHistogram pooled = queueAutomat.getWaitHistogram().emptyCopy();
+		for (ServicePoint sp : tellers) {
+			pooled.add(sp.getWaitHistogram());
+		}
+		return pooled;
+	}
+
+	/**
+	 * Returns the numeric results of the last completed run.
+	 *
+	 * @return Map of metric names to values, in report order
+	 */
+	public Map<String, Double> getMetrics() {
+		return new LinkedHashMap<>(metrics);
+	}
+
+	/**
+	 * Returns the report produced by the last completed run.
+	 *
+	 * @return Formatted simulation statistics, or an empty string before the first run
+	 */
+	public String getResultsReport() {
+		return resultsReport;
 	}
 	/**
 	 * Generates a formatted string of statistics for a service point.
@@ -290,87 +635,119 @@ public class MyEngine extends Engine {
 		return name + ":\n" +
 				"  Customers Served: " + sp.getServedCustomers() + "\n" +
 				String.format("  Average Service Time: %.2f minutes\n", sp.getAverageServiceTime()) +
-				String.format("  Average Queue Time: %.2f minutes\n", sp.getAverageQueueTime());
+				String.format("  Average Queue Time: %.2f minutes\n", sp.getAverageQueueTime()) +
+				String.format("  Queue Time p50/p90/p99: %.2f / %.2f / %.2f minutes\n",
+						sp.getQueueTimeTally().getP50(), sp.getQueueTimeTally().getP90(), sp.getQueueTimeTally().getP99());
 	}
 
 	/**
-	 * Finds the service point with the shortest queue.
+	 * Formats the time-averaged statistics of a service point with a Little's law check.
+	 * Little's law L = lambda * W compares the time-averaged number at the point with the
+	 * throughput times the mean time spent there; customers still inside at the end of the
+	 * run make the two differ slightly.
 	 *
-	 * @param points Array of service points to check
-	 * @return ServicePoint with minimum queue length
+	 * @param sp The service point
+	 * @param name Display name of the service point
+	 * @return Formatted statistics
 	 */
-	private ServicePoint findShortestQueue(ServicePoint[] points) {
-		ServicePoint shortest = points[0];
-		for(ServicePoint sp : points) {
-			if(sp.getQueueLength() < shortest.getQueueLength()) {
-				shortest = sp;
-			}
-		}
-		return shortest;
+	private String getTimeAverageStats(ServicePoint sp, String name) {
+		double observed = sp.getObservedTime();
+		double throughput = observed > 0 ? sp.getServedCustomers() / observed : 0;
+		double littleL = throughput * sp.getSojournTimeTally().getMean();
+		double l = sp.getAverageNumberInSystem();
+		double deviation = l > 0 ? 100 * (littleL - l) / l : 0;
+		return name + ":\n" +
+				String.format("  Mean Queue Length (Lq): %.3f\n", sp.getAverageQueueLength()) +
+				String.format("  Mean Number in System (L): %.3f\n", l) +
+				String.format("  Utilization: %.1f%%\n", 100 * sp.getUtilization()) +
+				String.format("  Little's Law: lambda*W = %.3f (%+.1f%% vs L)\n", littleL, deviation);
 	}
 
 	/**
-	 * Finds the account service point with the shortest queue.
+	 * Formats one line of distribution statistics.
 	 *
-	 * @return ServicePoint with minimum queue length
+	 * @param name Name of the measured quantity
+	 * @param tally The observations
+	 * @return Formatted line with mean, standard deviation, percentiles and maximum
 	 */
-	private ServicePoint findShortestAccountQueue() {
-		ServicePoint shortest = accountTellers[0];
-		for(ServicePoint sp : accountTellers) {
-			if(sp.getQueueLength() < shortest.getQueueLength()) {
-				shortest = sp;
-			}
+	private String getTallyStats(String name, Tally tally) {
+		if (tally.getCount() == 0) {
+			return "  " + name + ": no customers\n";
 		}
-		return shortest;
+		return String.format("  %s: mean %.2f, sd %.2f, p50 %.2f, p90 %.2f, p99 %.2f, max %.2f minutes\n",
+				name, tally.getMean(), tally.getStandardDeviation(),
+				tally.getP50(), tally.getP90(), tally.getP99(), tally.getMax());
 	}
+
 	/**
-	 * Updates and notifies listeners of changes in queue status.
-	 * Creates a snapshot of current queue states across all service points.
+	 * Publishes a snapshot of the queues if the consumer has taken the previous one.
+	 * Otherwise only records that a newer state exists, so the cost per event stays constant
+	 * and snapshots are built at the rate the consumer reads them.
 	 */
-	private void updateQueueStatus() {
-		System.out.println("Engine updating queue status");
-		queueStatus.clear();
-		queueStatus.put("automat", queueAutomat.getQueueCustomers());
-
-		for(int i = 0; i < transactionTellers.length; i++) {
-			queueStatus.put("teller" + (i+1), transactionTellers[i].getQueueCustomers());
+	private void publishQueueSnapshot() {
+		if (publishedSnapshot.get() != null) {
+			snapshotPending = true;
+			return;
 		}
-
-		for(int i = 0; i < accountTellers.length; i++) {
-			queueStatus.put("account" + (i+1), accountTellers[i].getQueueCustomers());
+		QueueSnapshot snapshot = snapshotBuffers[nextSnapshotBuffer];
+		nextSnapshotBuffer ^= 1;
+		snapshot.capture(pointsBySlot, stateVersion, context.getTime());
+		snapshotPending = false;
+		publishedSnapshot.set(snapshot);
+		if (queueUpdateListener != null) {
+			queueUpdateListener.onQueueUpdate();
 		}
-
-		notifyQueueUpdate(queueStatus);
 	}
 	/**
-	 * Returns a copy of the current queue status.
+	 * Publishes the queues as they are when the run ends, replacing a snapshot the consumer
+	 * has not taken yet, so the view does not stop at a state older than the last event.
+	 * A new buffer is used because the consumer may still be drawing from either of the two.
+	 */
+	private void publishFinalQueueSnapshot() {
+		QueueSnapshot snapshot = new QueueSnapshot(transactionTellers.length, accountTellers.length);
+		snapshot.capture(pointsBySlot, stateVersion, context.getTime());
+		snapshotPending = false;
+		publishedSnapshot.set(snapshot);
+		if (queueUpdateListener != null) {
+			queueUpdateListener.onQueueUpdate();
+		}
+	}
+	/**
+	 * Takes the latest published queue snapshot, leaving the handoff slot empty so that
+	 * the engine publishes a new one after its next state change. May be called from any thread.
+	 * The returned snapshot may be read until the next call to this method.
+	 *
+	 * @return The latest snapshot, or null if none was published since the last call
+	 */
+	public QueueSnapshot takeQueueSnapshot() {
+		return publishedSnapshot.getAndSet(null);
+	}
+	/**
+	 * Builds a copy of the current queues, keyed by service point name.
+	 * Intended for tests and for use after the run; the live UI reads {@link #takeQueueSnapshot()}.
 	 *
 	 * @return Map of service point names to customer queues
 	 */
 	public Map<String, List<Customer>> getQueueStatus() {
-		return new HashMap<>(queueStatus);
+		Map<String, List<Customer>> queueStatus = new HashMap<>();
+		queueStatus.put("automat", new ArrayList<>(queueAutomat.getQueueCustomers()));
+
+		for(int i = 0; i < transactionTellers.length; i++) {
+			queueStatus.put("teller" + (i+1), new ArrayList<>(transactionTellers[i].getQueueCustomers()));
+		}
+
+		for(int i = 0; i < accountTellers.length; i++) {
+			queueStatus.put("account" + (i+1), new ArrayList<>(accountTellers[i].getQueueCustomers()));
+		}
+		return queueStatus;
 	}
 
 	/**
 	 * Sets the listener for queue status updates.
 	 *
-	 * @param listener The QueueUpdateListener to receive status updates
+	 * @param listener The QueueUpdateListener notified when a new snapshot is published
 	 */
 	public void setQueueUpdateListener(QueueUpdateListener listener) {
 		this.queueUpdateListener = listener;
 	}
-	/**
-	 * Notifies the listener of changes in queue status.
-	 *
-	 * @param queueStatus Map of service point names to customer queues
-	 */
-	private void notifyQueueUpdate(Map<String, List<Customer>> queueStatus) {
-		if (queueUpdateListener != null) {
-			queueUpdateListener.onQueueUpdate(new HashMap<>(queueStatus));  // pass a copy of the queue status
-		} else {
-			System.out.println("No queue update listener registered");
-		}
-	}
-
-
 }
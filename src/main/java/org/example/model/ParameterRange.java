@@ -0,0 +1,89 @@
+package org.example.model;
+
+/**
+ * A closed range of values for one simulation parameter in a sweep.
+ * A grid design visits {@code steps} evenly spaced values from min to max;
+ * a Latin hypercube design samples anywhere inside the range.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class ParameterRange {
+    private final double min;
+    private final double max;
+    private final int steps;
+
+    /**
+     * Creates a range of evenly spaced grid values.
+     *
+     * @param min The first value
+     * @param max The last value
+     * @param steps The number of grid values, at least 1
+     */
+    public ParameterRange(double min, double max, int steps) {
+        if (steps < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid range [" + min + ", " + max + "] with " + steps + " steps");
+        }
+        this.min = min;
+        this.max = max;
+        this.steps = min == max ? 1 : steps;
+    }
+
+    /**
+     * Creates a range holding a single value.
+     *
+     * @param value The fixed value
+     * @return A one-step range
+     */
+    public static ParameterRange of(double value) {
+        return new ParameterRange(value, value, 1);
+    }
+
+    /**
+     * Gets the grid value with the given index.
+     *
+     * @param step Index from 0 to {@code getSteps() - 1}
+     * @return The grid value
+     */
+    public double valueAt(int step) {
+        return steps == 1 ? min : min + (max - min) * step / (steps - 1);
+    }
+
+    /**
+     * Maps a fraction of the range to a value.
+     *
+     * @param fraction A value in [0, 1]
+     * @return min + fraction * (max - min)
+     */
+    public double interpolate(double fraction) {
+        return min + (max - min) * fraction;
+    }
+
+    /**
+     * Checks whether the range holds a single value.
+     *
+     * @return True if min equals max
+     */
+    public boolean isFixed() {
+        return min == max;
+    }
+
+    /**
+     * Gets the number of grid values.
+     *
+     * @return The number of steps
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * Describes the range as min:max:steps.
+     *
+     * @return The bounds and the number of steps
+     */
+    @Override
+    public String toString() {
+        return min + ":" + max + ":" + steps;
+    }
+}
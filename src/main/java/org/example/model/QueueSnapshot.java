@@ -0,0 +1,163 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+/**
+ * A compact copy of the queues of all service points at one moment of a simulation run.
+ * <p>
+ * Queues are numbered by slot: slot 0 is the queue automat, followed by the transaction
+ * tellers and then the account tellers. For every slot the snapshot stores the queue length
+ * and one byte per customer giving the customer type, head of the queue first.
+ * Snapshots are reused by the engine; a consumer may read one only until it takes the next.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public final class QueueSnapshot {
+	/** Type code of a transaction client */
+	public static final byte TRANSACTION = 1;
+	/** Type code of an account client */
+	public static final byte ACCOUNT = 2;
+
+	private final int transactionTellers;
+	private final int accountTellers;
+	/** Queue length of every slot */
+	private final int[] lengths;
+	/** Start of every slot in {@link #types}, with one extra entry marking the end */
+	private final int[] offsets;
+	private byte[] types = new byte[64];
+	private long version;
+	private double time;
+
+	/**
+	 * Creates an empty snapshot for the given numbers of tellers.
+	 *
+	 * @param transactionTellers Number of transaction tellers
+	 * @param accountTellers Number of account tellers
+	 */
+	public QueueSnapshot(int transactionTellers, int accountTellers) {
+		this.transactionTellers = transactionTellers;
+		this.accountTellers = accountTellers;
+		lengths = new int[1 + transactionTellers + accountTellers];
+		offsets = new int[lengths.length + 1];
+	}
+	/**
+	 * Overwrites this snapshot with the current queues of the given service points.
+	 *
+	 * @param points The service points by slot
+	 * @param version Version number of the engine state being copied
+	 * @param time Simulation time of the engine state being copied
+	 */
+	void capture(ServicePoint[] points, long version, double time) {
+		int total = 0;
+		for (int slot = 0; slot < lengths.length; slot++) {
+			lengths[slot] = points[slot].getQueueLength();
+			offsets[slot] = total;
+			total += lengths[slot];
+		}
+		offsets[lengths.length] = total;
+		if (types.length < total) {
+			types = new byte[Math.max(total, 2 * types.length)];
+		}
+		for (int slot = 0; slot < lengths.length; slot++) {
+			List<Customer> queue = points[slot].getQueueCustomers();
+			int offset = offsets[slot];
+			for (int i = 0; i < lengths[slot]; i++) {
+				types[offset + i] = queue.get(i).getType() == CustomerType.TRANSACTION_CLIENT ? TRANSACTION : ACCOUNT;
+			}
+		}
+		this.version = version;
+		this.time = time;
+	}
+	/**
+	 * Gets the version of the engine state this snapshot was taken from.
+	 * Versions increase with every processed event, so equal versions mean an unchanged state.
+	 *
+	 * @return The version number
+	 */
+	public long getVersion() {
+		return version;
+	}
+	/**
+	 * Gets the simulation time at which this snapshot was taken.
+	 *
+	 * @return The simulation time
+	 */
+	public double getTime() {
+		return time;
+	}
+	/**
+	 * Gets the number of transaction tellers.
+	 *
+	 * @return The number of transaction tellers
+	 */
+	public int getTransactionTellers() {
+		return transactionTellers;
+	}
+	/**
+	 * Gets the number of account tellers.
+	 *
+	 * @return The number of account tellers
+	 */
+	public int getAccountTellers() {
+		return accountTellers;
+	}
+	/**
+	 * Gets the slot of the queue automat.
+	 *
+	 * @return The automat slot
+	 */
+	public int automatSlot() {
+		return 0;
+	}
+	/**
+	 * Gets the slot of a transaction teller.
+	 *
+	 * @param index Index of the teller, starting from 0
+	 * @return The teller's slot
+	 */
+	public int transactionSlot(int index) {
+		return 1 + index;
+	}
+	/**
+	 * Gets the slot of an account teller.
+	 *
+	 * @param index Index of the teller, starting from 0
+	 * @return The teller's slot
+	 */
+	public int accountSlot(int index) {
+		return 1 + transactionTellers + index;
+	}
+	/**
+	 * Gets the queue length of a slot.
+	 *
+	 * @param slot The slot
+	 * @return Number of customers in that queue
+	 */
+	public int getLength(int slot) {
+		return lengths[slot];
+	}
+	/**
+	 * Gets the type code of a queued customer.
+	 *
+	 * @param slot The slot
+	 * @param position Position in the queue, 0 being the head
+	 * @return {@link #TRANSACTION} or {@link #ACCOUNT}
+	 */
+	public byte getType(int slot, int position) {
+		return types[offsets[slot] + position];
+	}
+	/**
+	 * Gets the total number of customers in all queues.
+	 *
+	 * @return The number of queued customers
+	 */
+	public int getTotalLength() {
+		return offsets[lengths.length];
+	}
+
+	@Override
+	public String toString() {
+		return "QueueSnapshot{version=" + version + ", time=" + time + ", lengths=" + Arrays.toString(lengths) + "}";
+	}
+}
@@ -0,0 +1,208 @@
+package org.example.model;
+
+import org.example.framework.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Summary statistics of a metric set collected over independent simulation replications.
+ * For every metric it reports the sample mean, the sample variance and a 95% confidence
+ * interval for the mean based on Student's t distribution.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class ReplicationSummary {
+    /** Two-sided 95% critical values of Student's t for 1..30 degrees of freedom */
+    private static final double[] T_975 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private final int replications;
+    private final Map<String, Metric> metrics = new LinkedHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+
+    /**
+     * Builds the summary from the metrics of each replication.
+     *
+     * @param results Metric maps, one per replication, as returned by {@link MyEngine#getMetrics()}
+     */
+    public ReplicationSummary(List<Map<String, Double>> results) {
+        this(results, Collections.emptyMap());
+    }
+
+    /**
+     * Builds the summary from the metrics of each replication and latency histograms pooled over all of them.
+     *
+     * @param results Metric maps, one per replication, as returned by {@link MyEngine#getMetrics()}
+     * @param histograms Histograms merged over all replications, keyed by name
+     */
+    public ReplicationSummary(List<Map<String, Double>> results, Map<String, LatencyHistogram> histograms) {
+        this.histograms.putAll(histograms);
+        this.replications = results.size();
+        Map<String, List<Double>> samples = new LinkedHashMap<>();
+        for (Map<String, Double> result : results) {
+            for (Map.Entry<String, Double> entry : result.entrySet()) {
+                samples.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+            }
+        }
+        for (Map.Entry<String, List<Double>> entry : samples.entrySet()) {
+            metrics.put(entry.getKey(), new Metric(entry.getValue()));
+        }
+    }
+
+    /**
+     * Gets the number of replications summarised.
+     *
+     * @return The number of replications
+     */
+    public int getReplications() {
+        return replications;
+    }
+
+    /**
+     * Gets the names of all metrics, in report order.
+     *
+     * @return Unmodifiable set of metric names
+     */
+    public Set<String> getMetricNames() {
+        return Collections.unmodifiableSet(metrics.keySet());
+    }
+
+    /**
+     * Gets the statistics of one metric.
+     *
+     * @param name The metric name
+     * @return The metric statistics, or null if the metric is unknown
+     */
+    public Metric getMetric(String name) {
+        return metrics.get(name);
+    }
+
+    /**
+     * Gets the latency histograms pooled over all replications.
+     *
+     * @return Unmodifiable map of histogram names to histograms
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Formats the summary as a table with one metric per line.
+     *
+     * @return The formatted summary
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== %d Replications ===\n", replications));
+        sb.append(String.format("%-34s %12s %12s %25s\n", "Metric", "Mean", "Variance", "95% CI"));
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            Metric m = entry.getValue();
+            sb.append(String.format("%-34s %12.4f %12.4f   [%10.4f, %10.4f]\n",
+                    entry.getKey(), m.getMean(), m.getVariance(), m.getLower(), m.getUpper()));
+        }
+        if (!histograms.isEmpty()) {
+            sb.append("\n=== Pooled Latency Percentiles ===\n");
+            sb.append(String.format("%-34s %10s %10s %10s %10s %10s %10s\n", "Histogram", "Count", "p50", "p90", "p99", "p99.9", "Max"));
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                LatencyHistogram h = entry.getValue();
+                sb.append(String.format("%-34s %10d %10.2f %10.2f %10.2f %10.2f %10.2f\n", entry.getKey(), h.getTotalCount(),
+                        h.getValueAtPercentile(50), h.getValueAtPercentile(90), h.getValueAtPercentile(99),
+                        h.getValueAtPercentile(99.9), h.getMax()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the 97.5% quantile of Student's t distribution.
+     * Exact table values up to 30 degrees of freedom, Cornish-Fisher expansion above.
+     *
+     * @param degreesOfFreedom Degrees of freedom, at least 1
+     * @return The critical value for a two-sided 95% interval
+     */
+    static double tCritical(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_975.length) {
+            return T_975[degreesOfFreedom - 1];
+        }
+        double z = 1.959964;
+        double n = degreesOfFreedom;
+        return z + (z * z * z + z) / (4 * n) + (5 * Math.pow(z, 5) + 16 * z * z * z + 3 * z) / (96 * n * n);
+    }
+
+    /**
+     * Statistics of one metric over all replications.
+     */
+    public static class Metric {
+        private final int count;
+        private final double mean;
+        private final double variance;
+        private final double halfWidth;
+
+        Metric(List<Double> values) {
+            count = values.size();
+            double sum = 0;
+            for (double v : values) {
+                sum += v;
+            }
+            mean = count > 0 ? sum / count : 0;
+            double squares = 0;
+            for (double v : values) {
+                squares += (v - mean) * (v - mean);
+            }
+            variance = count > 1 ? squares / (count - 1) : 0;
+            halfWidth = count > 1 ? tCritical(count - 1) * Math.sqrt(variance / count) : Double.NaN;
+        }
+
+        /**
+         * @return Number of replications that reported this metric
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return Sample mean over the replications
+         */
+        public double getMean() {
+            return mean;
+        }
+
+        /**
+         * @return Unbiased sample variance over the replications
+         */
+        public double getVariance() {
+            return variance;
+        }
+
+        /**
+         * @return Half-width of the 95% confidence interval, NaN for a single replication
+         */
+        public double getHalfWidth() {
+            return halfWidth;
+        }
+
+        /**
+         * @return Lower bound of the 95% confidence interval
+         */
+        public double getLower() {
+            return mean - halfWidth;
+        }
+
+        /**
+         * @return Upper bound of the 95% confidence interval
+         */
+        public double getUpper() {
+            return mean + halfWidth;
+        }
+    }
+}
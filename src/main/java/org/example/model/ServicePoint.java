@@ -1,26 +1,44 @@
 package org.example.model;
 
 import org.example.eduni.distributions.ContinuousGenerator;
-import org.example.framework.Clock;
 import org.example.framework.Event;
 import org.example.framework.EventList;
+import org.example.framework.LatencyHistogram;
+import org.example.framework.SimulationContext;
+import org.example.framework.Tally;
+import org.example.framework.TimeWeighted;
 import org.example.framework.Trace;
 
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 /**
  * Represents a service point in the bank simulation system.
  * Manages customer queuing, service timing, and statistics collection.
  */
 public class ServicePoint {
+	/**
+	 * Interface for receiving notifications when the queue of a service point changes.
+	 */
+	public interface QueueListener {
+		/**
+		 * Called after a customer has been added to or removed from the queue.
+		 *
+		 * @param servicePoint The service point whose queue changed
+		 */
+		void onQueueChanged(ServicePoint servicePoint);
+	}
 	/** Queue of customers waiting for service */
-	private LinkedList<Customer> queue = new LinkedList<>();
+	private final CustomerQueue queue = new CustomerQueue();
+	/** Read-only view of the queue handed out to callers */
+	private final List<Customer> queueView = Collections.unmodifiableList(queue);
 	/** Random number generator for service times */
 	private ContinuousGenerator generator;
 	/** List of scheduled events */
 	private EventList eventList;
 	/** Type of departure event for this service point */
 	private EventType eventTypeScheduled;
+	/** Position of this service point among the points sharing its departure type */
+	private final int index;
 	/** Start time of the current service */
 	private double serviceStartTime;
 	/** Indicates if service point is currently serving a customer */
@@ -31,19 +49,70 @@ public class ServicePoint {
 	private double totalServiceTime = 0;
 	/** Cumulative queue waiting time for all customers */
 	private double totalQueueTime = 0;
+	/** Simulation run this service point belongs to */
+	private final SimulationContext context;
+	/** Distribution of the time customers wait before service starts */
+	private final Tally queueTimes = new Tally();
+	/** Histogram of the same waiting times, mergeable across runs */
+	private final LatencyHistogram waitHistogram = new LatencyHistogram();
+	/** Distribution of service durations */
+	private final Tally serviceTimes = new Tally();
+	/** Distribution of the time from joining the queue to leaving this point */
+	private final Tally sojournTimes = new Tally();
+	/** Time-weighted number of customers waiting, excluding the one in service */
+	private final TimeWeighted waitingCount;
+	/** Time-weighted number of customers at this point, waiting or in service */
+	private final TimeWeighted customerCount;
+	/** Time-weighted busy indicator; its mean is the utilization */
+	private final TimeWeighted busy;
+	/** Time the integrators started */
+	private final double startTime;
+	/** Listener notified of queue changes, may be null */
+	private QueueListener queueListener;
 
 
 	/**
-	 * Creates a new service point with specified service time distribution.
+	 * Creates a new service point with specified service time distribution
+	 * in the default simulation context.
 	 *
 	 * @param generator Service time distribution generator
 	 * @param eventList Event scheduling system
 	 * @param type Type of departure event for this service point
 	 */
 	public ServicePoint(ContinuousGenerator generator, EventList eventList, EventType type){
+		this(generator, eventList, type, SimulationContext.getDefault());
+	}
+	/**
+	 * Creates a new service point that reads time from the given simulation context.
+	 *
+	 * @param generator Service time distribution generator
+	 * @param eventList Event scheduling system
+	 * @param type Type of departure event for this service point
+	 * @param context The simulation context of the run
+	 */
+	public ServicePoint(ContinuousGenerator generator, EventList eventList, EventType type, SimulationContext context){
+		this(generator, eventList, type, 0, context);
+	}
+	/**
+	 * Creates a new service point whose departure events carry its index,
+	 * so the engine can route them without looking the point up.
+	 *
+	 * @param generator Service time distribution generator
+	 * @param eventList Event scheduling system
+	 * @param type Type of departure event for this service point
+	 * @param index Position of this service point among the points sharing its departure type
+	 * @param context The simulation context of the run
+	 */
+	public ServicePoint(ContinuousGenerator generator, EventList eventList, EventType type, int index, SimulationContext context){
 		this.eventList = eventList;
 		this.generator = generator;
 		this.eventTypeScheduled = type;
+		this.index = index;
+		this.context = context;
+		this.startTime = context.getTime();
+		this.waitingCount = new TimeWeighted(startTime, 0);
+		this.customerCount = new TimeWeighted(startTime, 0);
+		this.busy = new TimeWeighted(startTime, 0);
 	}
 	/**
 	 * Adds a customer to the service queue and records queue entry time.
@@ -52,9 +121,13 @@ public class ServicePoint {
 	 */
 	public void addQueue(Customer a) {
 		queue.add(a);
-		double currentTime = Clock.getInstance().getClock();
+		double currentTime = context.getTime();
 		a.setQueueStartTime(currentTime);
-		System.out.println("Added customer " + a.getId() + " to queue at time: " + currentTime);
+		recordState(currentTime);
+		Trace.out(Trace.Level.INFO, () -> "Added customer " + a.getId() + " to queue at time: " + currentTime);
+		if (queueListener != null) {
+			queueListener.onQueueChanged(this);
+		}
 	}
 	/**
 	 * Starts serving the next customer in queue.
@@ -62,14 +135,19 @@ public class ServicePoint {
 	 */
 	public void beginService() {
 		Customer customer = queue.peek();
-		Trace.out(Trace.Level.INFO, "Starting a new service for the customer #" + customer.getId());
+		Trace.out(Trace.Level.INFO, () -> "Starting a new service for the customer #" + customer.getId());
 
-		totalQueueTime += Clock.getInstance().getClock() - customer.getQueueStartTime();
-		serviceStartTime = Clock.getInstance().getClock();
+		double queueTime = context.getTime() - customer.getQueueStartTime();
+		totalQueueTime += queueTime;
+		queueTimes.add(queueTime);
+		waitHistogram.record(queueTime);
+		customer.addQueueTime(queueTime);
+		serviceStartTime = context.getTime();
 		reserved = true;
+		recordState(serviceStartTime);
 		double serviceTime = generator.sample();
 
-		eventList.add(new Event(eventTypeScheduled, Clock.getInstance().getClock() + serviceTime));
+		eventList.add(new Event(eventTypeScheduled, context.getTime() + serviceTime, index));
 	}
 	/**
 	 * Removes and returns the served customer from queue.
@@ -80,16 +158,49 @@ public class ServicePoint {
 	public Customer removeQueue() {
 		reserved = false;
 		servedCustomers++;
-		totalServiceTime += Clock.getInstance().getClock() - serviceStartTime;
-		return queue.poll();
+		double serviceTime = context.getTime() - serviceStartTime;
+		totalServiceTime += serviceTime;
+		Customer customer = queue.poll();
+		recordState(context.getTime());
+		if (customer != null) {
+			serviceTimes.add(serviceTime);
+			sojournTimes.add(context.getTime() - customer.getQueueStartTime());
+			customer.addServiceTime(serviceTime);
+		}
+		if (queueListener != null) {
+			queueListener.onQueueChanged(this);
+		}
+		return customer;
+	}
+	/**
+	 * Advances the time-weighted integrators to a state change. The customer in service
+	 * stays at the head of the queue until it is removed.
+	 *
+	 * @param time The time of the change
+	 */
+	private void recordState(double time) {
+		int inSystem = queue.size();
+		int inService = reserved ? 1 : 0;
+		customerCount.update(time, inSystem);
+		waitingCount.update(time, inSystem - inService);
+		busy.update(time, inService);
 	}
 	/**
-	 * Gets a defensive copy of the current queue.
+	 * Sets the listener notified whenever the queue of this service point changes.
+	 *
+	 * @param listener The listener, or null to remove it
+	 */
+	public void setQueueListener(QueueListener listener) {
+		this.queueListener = listener;
+	}
+	/**
+	 * Gets a read-only view of the current queue, head first.
+	 * The view reflects later changes to the queue; copy it before handing it to another thread.
 	 *
 	 * @return List of customers currently in queue
 	 */
 	public List<Customer> getQueueCustomers() {
-		return new LinkedList<>(queue);
+		return queueView;
 	}
 	/**
 	 * Checks if the service point is currently serving a customer.
@@ -131,6 +242,78 @@ public class ServicePoint {
 	public double getAverageQueueTime() {
 		return servedCustomers > 0 ? totalQueueTime / servedCustomers : 0;
 	}
+	/**
+	 * Gets the time-averaged number of customers waiting for service (Lq).
+	 *
+	 * @return Mean queue length from creation of the point to the current time
+	 */
+	public double getAverageQueueLength() {
+		return waitingCount.getMean(context.getTime());
+	}
+	/**
+	 * Gets the time-averaged number of customers at this service point, waiting or in service (L).
+	 *
+	 * @return Mean number in system from creation of the point to the current time
+	 */
+	public double getAverageNumberInSystem() {
+		return customerCount.getMean(context.getTime());
+	}
+	/**
+	 * Gets the fraction of time this service point has been serving a customer.
+	 *
+	 * @return Utilization between 0 and 1
+	 */
+	public double getUtilization() {
+		return busy.getMean(context.getTime());
+	}
+	/**
+	 * Gets the time elapsed since this service point was created.
+	 *
+	 * @return Observation period of the time averages in simulation units
+	 */
+	public double getObservedTime() {
+		return context.getTime() - startTime;
+	}
+	/**
+	 * Gets the distribution of queue waiting times at this service point.
+	 *
+	 * @return Tally of the time from joining the queue to the start of service
+	 */
+	public Tally getQueueTimeTally() {
+		return queueTimes;
+	}
+	/**
+	 * Gets the histogram of queue waiting times at this service point.
+	 *
+	 * @return Histogram of the time from joining the queue to the start of service
+	 */
+	public LatencyHistogram getWaitHistogram() {
+		return waitHistogram;
+	}
+	/**
+	 * Gets the distribution of service times at this service point.
+	 *
+	 * @return Tally of service durations
+	 */
+	public Tally getServiceTimeTally() {
+		return serviceTimes;
+	}
+	/**
+	 * Gets the distribution of the time customers spend at this service point, waiting and in service.
+	 *
+	 * @return Tally of the time from joining the queue to leaving the point
+	 */
+	public Tally getSojournTimeTally() {
+		return sojournTimes;
+	}
+	/**
+	 * Gets the position of this service point among the points sharing its departure type.
+	 *
+	 * @return The index carried by this point's departure events
+	 */
+	public int getIndex() {
+		return index;
+	}
 	/**
 	 * Gets the total number of customers served by this service point.
 	 *
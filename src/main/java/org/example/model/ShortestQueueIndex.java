@@ -0,0 +1,72 @@
+package org.example.model;
+
+/**
+ * Tournament tree over the queue lengths of a group of service points.
+ * Finding the point with the shortest queue is O(1); after a queue changes,
+ * {@link #update(int)} replays only the matches on the path to the root, O(log n).
+ * Ties go to the point with the lowest index, the same choice a left-to-right scan makes.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class ShortestQueueIndex {
+	private static final int NONE = -1;
+	/** The service points, by index */
+	private final ServicePoint[] points;
+	/** Number of leaves, a power of two; leaf i is stored at tree[leaves + i] */
+	private final int leaves;
+	/** Winner (point index) of every match; unused leaves hold NONE */
+	private final int[] tree;
+
+	/**
+	 * Builds the index over the given service points.
+	 *
+	 * @param points The service points, indexed by their position in the array
+	 */
+	public ShortestQueueIndex(ServicePoint[] points) {
+		this.points = points;
+		int size = 1;
+		while (size < points.length) {
+			size <<= 1;
+		}
+		leaves = size;
+		tree = new int[2 * leaves];
+		for (int i = 0; i < leaves; i++) {
+			tree[leaves + i] = i < points.length ? i : NONE;
+		}
+		for (int node = leaves - 1; node >= 1; node--) {
+			tree[node] = winner(tree[2 * node], tree[2 * node + 1]);
+		}
+	}
+
+	/**
+	 * Gets the service point with the shortest queue.
+	 *
+	 * @return The point with the fewest customers, lowest index on ties
+	 */
+	public ServicePoint shortest() {
+		return points[tree[1]];
+	}
+
+	/**
+	 * Re-evaluates the matches affected by a change in one point's queue length.
+	 *
+	 * @param index The index of the point whose queue changed
+	 */
+	public void update(int index) {
+		for (int node = (leaves + index) >> 1; node >= 1; node >>= 1) {
+			tree[node] = winner(tree[2 * node], tree[2 * node + 1]);
+		}
+	}
+
+	private int winner(int left, int right) {
+		if (right == NONE) {
+			return left;
+		}
+		if (left == NONE) {
+			return right;
+		}
+		// left always has the lower index, so it wins ties
+		return points[right].getQueueLength() < points[left].getQueueLength() ? right : left;
+	}
+}
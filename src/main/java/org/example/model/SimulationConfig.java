@@ -0,0 +1,189 @@
+package org.example.model;
+
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.framework.EventList;
+
+/**
+ * Plain holder for the parameters of a simulation run that is not driven by the GUI.
+ * Defaults match the initial values of the simulator controller.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class SimulationConfig implements SimulationParameters {
+	private int numberOfStations = 2;
+	private int numberOfAccountStations = 1;
+	private double arrivalInterval = 5.0;
+	private double transactionServiceTime = 10.0;
+	private double accountServiceTime = 15.0;
+	private double clientDistributionPercentage = 80.0;
+	private double simulationTime = 1000.0;
+	private EventList.Implementation eventListImplementation = EventList.Implementation.PRIORITY_QUEUE;
+	private RandomSource randomSource = RandomSource.LCG;
+	private SamplingMethod samplingMethod = SamplingMethod.LEGACY;
+
+	/**
+	 * Creates a configuration with the default parameters.
+	 */
+	public SimulationConfig() {
+	}
+
+	/**
+	 * Creates a copy of the given parameters.
+	 *
+	 * @param other The parameters to copy
+	 */
+	public SimulationConfig(SimulationParameters other) {
+		this.numberOfStations = other.getNumberOfStations();
+		this.numberOfAccountStations = other.getNumberOfAccountStations();
+		this.arrivalInterval = other.getArrivalInterval();
+		this.transactionServiceTime = other.getTransactionServiceTime();
+		this.accountServiceTime = other.getAccountServiceTime();
+		this.clientDistributionPercentage = other.getClientDistribution();
+		this.simulationTime = other.getSimulationTime();
+		this.eventListImplementation = other.getEventListImplementation();
+		this.randomSource = other.getRandomSource();
+		this.samplingMethod = other.getSamplingMethod();
+	}
+
+	@Override
+	public int getNumberOfStations() {
+		return numberOfStations;
+	}
+
+	/**
+	 * Sets the number of transaction tellers.
+	 *
+	 * @param stations Number of transaction service stations
+	 */
+	public void setNumberOfStations(int stations) {
+		this.numberOfStations = stations;
+	}
+
+	@Override
+	public int getNumberOfAccountStations() {
+		return numberOfAccountStations;
+	}
+
+	/**
+	 * Sets the number of account tellers.
+	 *
+	 * @param stations Number of account service stations
+	 */
+	public void setNumberOfAccountStations(int stations) {
+		this.numberOfAccountStations = stations;
+	}
+
+	@Override
+	public double getArrivalInterval() {
+		return arrivalInterval;
+	}
+
+	/**
+	 * Sets the mean time between customer arrivals.
+	 *
+	 * @param interval Arrival interval in minutes
+	 */
+	public void setArrivalInterval(double interval) {
+		this.arrivalInterval = interval;
+	}
+
+	@Override
+	public double getTransactionServiceTime() {
+		return transactionServiceTime;
+	}
+
+	/**
+	 * Sets the mean service time of a transaction teller.
+	 *
+	 * @param time Transaction service time in minutes
+	 */
+	public void setTransactionServiceTime(double time) {
+		this.transactionServiceTime = time;
+	}
+
+	@Override
+	public double getAccountServiceTime() {
+		return accountServiceTime;
+	}
+
+	/**
+	 * Sets the mean service time of an account teller.
+	 *
+	 * @param time Account service time in minutes
+	 */
+	public void setAccountServiceTime(double time) {
+		this.accountServiceTime = time;
+	}
+
+	@Override
+	public double getClientDistribution() {
+		return clientDistributionPercentage;
+	}
+
+	/**
+	 * Sets the percentage of clients that are transaction clients.
+	 *
+	 * @param percentage Percentage (0-100) of transaction clients
+	 */
+	public void setClientDistribution(double percentage) {
+		this.clientDistributionPercentage = percentage;
+	}
+
+	@Override
+	public double getSimulationTime() {
+		return simulationTime;
+	}
+
+	/**
+	 * Sets the length of the simulation run.
+	 *
+	 * @param time Simulation time in minutes
+	 */
+	public void setSimulationTime(double time) {
+		this.simulationTime = time;
+	}
+
+	@Override
+	public EventList.Implementation getEventListImplementation() {
+		return eventListImplementation;
+	}
+
+	/**
+	 * Sets the event list implementation the engine should use.
+	 *
+	 * @param implementation The event list implementation
+	 */
+	public void setEventListImplementation(EventList.Implementation implementation) {
+		this.eventListImplementation = implementation;
+	}
+
+	@Override
+	public RandomSource getRandomSource() {
+		return randomSource;
+	}
+
+	/**
+	 * Sets the uniform generator the random streams of the run are built on.
+	 *
+	 * @param source The random source
+	 */
+	public void setRandomSource(RandomSource source) {
+		this.randomSource = source;
+	}
+
+	@Override
+	public SamplingMethod getSamplingMethod() {
+		return samplingMethod;
+	}
+
+	/**
+	 * Sets the algorithms the random variates of the run are computed with.
+	 *
+	 * @param method The sampling method
+	 */
+	public void setSamplingMethod(SamplingMethod method) {
+		this.samplingMethod = method;
+	}
+}
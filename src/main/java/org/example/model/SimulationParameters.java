@@ -0,0 +1,92 @@
+package org.example.model;
+
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.framework.EventList;
+
+/**
+ * Read-only view of the configuration knobs a bank simulation run is built from.
+ * Implemented by the GUI controller and by {@link SimulationConfig} for headless runs.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public interface SimulationParameters {
+	/**
+	 * Gets the number of transaction tellers.
+	 *
+	 * @return Number of transaction service stations
+	 */
+	int getNumberOfStations();
+
+	/**
+	 * Gets the number of account tellers.
+	 *
+	 * @return Number of account service stations
+	 */
+	int getNumberOfAccountStations();
+
+	/**
+	 * Gets the mean time between customer arrivals.
+	 *
+	 * @return Arrival interval in minutes
+	 */
+	double getArrivalInterval();
+
+	/**
+	 * Gets the mean service time of a transaction teller.
+	 *
+	 * @return Transaction service time in minutes
+	 */
+	double getTransactionServiceTime();
+
+	/**
+	 * Gets the mean service time of an account teller.
+	 *
+	 * @return Account service time in minutes
+	 */
+	double getAccountServiceTime();
+
+	/**
+	 * Gets the percentage of clients that are transaction clients.
+	 *
+	 * @return Percentage (0-100) of transaction clients
+	 */
+	double getClientDistribution();
+
+	/**
+	 * Gets the length of the simulation run.
+	 *
+	 * @return Simulation time in minutes
+	 */
+	double getSimulationTime();
+
+	/**
+	 * Gets the event list implementation the engine should use.
+	 *
+	 * @return The event list implementation
+	 */
+	default EventList.Implementation getEventListImplementation() {
+		return EventList.Implementation.PRIORITY_QUEUE;
+	}
+
+	/**
+	 * Gets the uniform generator the random streams of the run are built on.
+	 * The legacy {@link RandomSource#LCG} reproduces the results of earlier versions.
+	 *
+	 * @return The random source
+	 */
+	default RandomSource getRandomSource() {
+		return RandomSource.LCG;
+	}
+
+	/**
+	 * Gets the algorithms the random variates of the run are computed with.
+	 * The legacy {@link SamplingMethod#LEGACY} reproduces the results of earlier versions.
+	 *
+	 * @return The sampling method
+	 */
+	default SamplingMethod getSamplingMethod() {
+		return SamplingMethod.LEGACY;
+	}
+}
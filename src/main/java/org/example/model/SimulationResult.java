@@ -1,5 +1,11 @@
 package org.example.model;
 
+import org.example.framework.LatencyHistogram;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Represents the results of a single simulation run.
  * Stores identification, timing, and statistical data.
@@ -7,13 +13,18 @@ package org.example.model;
  * @author Group 3
  * @version 1.0
  */
-public class SimulationResult {
+public class SimulationResult implements Serializable {
+    private static final long serialVersionUID = 1L;
     /** Unique identifier for the simulation result */
     private int id;
     /** Timestamp when the simulation was completed */
     private String timestamp;
     /** Detailed results and statistics from the simulation run */
     private String results;
+    /** Starts the histogram section appended to the results text when the result is stored */
+    private static final String HISTOGRAM_SECTION = "\n=== Latency Histograms ===\n";
+    /** Latency histograms of the run, keyed by name */
+    private Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
     /**
      * Creates a new simulation result with specified parameters.
      *
@@ -75,4 +86,78 @@ public class SimulationResult {
     public void setResults(String results) {
         this.results = results;
     }
+    /**
+     * Gets the latency histograms of the run.
+     *
+     * @return Map of histogram names to histograms, empty if none were recorded
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+    /**
+     * Sets the latency histograms of the run.
+     *
+     * @param histograms Map of histogram names to histograms
+     */
+    public void setHistograms(Map<String, LatencyHistogram> histograms) {
+        this.histograms = new LinkedHashMap<>(histograms);
+    }
+    /**
+     * Encodes the histograms as text, one {@code name=encoding} line per histogram.
+     *
+     * @return The encoded histograms, readable by {@link #decodeHistograms(String)}
+     */
+    public String encodeHistograms() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(entry.getValue().encode()).append('\n');
+        }
+        return sb.toString();
+    }
+    /**
+     * Decodes histograms written by {@link #encodeHistograms()}.
+     *
+     * @param encoded The encoded histograms
+     * @return Map of histogram names to histograms
+     */
+    public static Map<String, LatencyHistogram> decodeHistograms(String encoded) {
+        Map<String, LatencyHistogram> decoded = new LinkedHashMap<>();
+        for (String line : encoded.split("\n")) {
+            int separator = line.indexOf('=');
+            if (separator > 0) {
+                decoded.put(line.substring(0, separator), LatencyHistogram.decode(line.substring(separator + 1)));
+            }
+        }
+        return decoded;
+    }
+    /**
+     * Encodes the result text for storage, followed by a section holding the encoded
+     * histograms if there are any.
+     *
+     * @return The text to store, readable by {@link #fromStoredText(int, String, String)}
+     */
+    public String toStoredText() {
+        if (histograms.isEmpty()) {
+            return results;
+        }
+        return results + HISTOGRAM_SECTION + encodeHistograms();
+    }
+    /**
+     * Creates a result from text written by {@link #toStoredText()}.
+     * Text stored without a histogram section gives a result without histograms.
+     *
+     * @param id Unique identifier for this result
+     * @param timestamp Time when simulation completed
+     * @param stored The stored results text
+     * @return The result, with the histogram section split off into its histograms
+     */
+    public static SimulationResult fromStoredText(int id, String timestamp, String stored) {
+        int section = stored == null ? -1 : stored.lastIndexOf(HISTOGRAM_SECTION);
+        if (section < 0) {
+            return new SimulationResult(id, timestamp, stored);
+        }
+        SimulationResult result = new SimulationResult(id, timestamp, stored.substring(0, section));
+        result.histograms = decodeHistograms(stored.substring(section + HISTOGRAM_SECTION.length()));
+        return result;
+    }
 }
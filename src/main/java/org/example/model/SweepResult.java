@@ -0,0 +1,59 @@
+package org.example.model;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of one point of a parameter sweep.
+ *
+ * @author Group 3
+ * @version 1.0
+ */
+public class SweepResult {
+    /** Position of the point in the expanded design */
+    private final int index;
+    /** Parameters the point was run with */
+    private final SimulationConfig config;
+    /** Numeric results of the run */
+    private final Map<String, Double> metrics;
+
+    /**
+     * Creates a new sweep result.
+     *
+     * @param index Position of the point in the expanded design
+     * @param config Parameters the point was run with
+     * @param metrics Numeric results of the run
+     */
+    public SweepResult(int index, SimulationConfig config, Map<String, Double> metrics) {
+        this.index = index;
+        this.config = config;
+        this.metrics = Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Gets the position of the point in the expanded design.
+     *
+     * @return The point index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the parameters of the point.
+     *
+     * @return The configuration the point was run with
+     */
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the numeric results of the point.
+     *
+     * @return Unmodifiable map of metric names to values
+     */
+    public Map<String, Double> getMetrics() {
+        return metrics;
+    }
+}
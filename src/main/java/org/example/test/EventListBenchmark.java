@@ -0,0 +1,69 @@
+package org.example.test;
+
+import org.example.framework.Event;
+import org.example.framework.EventList;
+import org.example.framework.IEventType;
+import org.example.framework.Trace;
+import org.example.framework.Trace.Level;
+
+import java.util.Random;
+
+/**
+ * Classic hold-model benchmark for the event list implementations.
+ * The list is filled with N events, then each hold operation removes the earliest
+ * event and schedules a new one at its time plus an exponential increment, which keeps
+ * the list size constant. The average cost of one hold is reported per implementation.
+ * <p>
+ * Usage: {@code EventListBenchmark [maxExponent]} runs N = 10^3 .. 10^maxExponent (default 7).
+ * Large sizes need a big heap, e.g. {@code -Xmx4g}.
+ */
+public class EventListBenchmark {
+	private enum HoldEvent implements IEventType { HOLD }
+
+	private static final int HOLDS = 2_000_000;
+
+	public static void main(String[] args) {
+		Trace.setTraceLevel(Level.ERR);
+		int maxExponent = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+		System.out.printf("%-10s %-16s %12s%n", "N", "implementation", "ns/hold");
+		for (int exponent = 3; exponent <= maxExponent; exponent++) {
+			int n = (int) Math.pow(10, exponent);
+			for (EventList.Implementation implementation : EventList.Implementation.values()) {
+				double nanos = hold(EventList.create(implementation), n);
+				System.out.printf("%-10d %-16s %12.1f%n", n, implementation, nanos);
+			}
+		}
+	}
+
+	/**
+	 * Runs the hold model on the given list.
+	 * @param list The empty event list to measure.
+	 * @param n The number of pending events.
+	 * @return Average nanoseconds per hold operation.
+	 */
+	private static double hold(EventList list, int n) {
+		Random random = new Random(4851L);
+		for (int i = 0; i < n; i++) {
+			list.add(new Event(HoldEvent.HOLD, exponential(random)));
+		}
+		// warm-up brings the time distribution of pending events to steady state
+		for (int i = 0; i < HOLDS / 4; i++) {
+			holdOnce(list, random);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < HOLDS; i++) {
+			holdOnce(list, random);
+		}
+		return (System.nanoTime() - start) / (double) HOLDS;
+	}
+
+	private static void holdOnce(EventList list, Random random) {
+		double time = list.remove().getTime();
+		list.add(new Event(HoldEvent.HOLD, time + exponential(random)));
+	}
+
+	private static double exponential(Random random) {
+		return -Math.log(1.0 - random.nextDouble());
+	}
+}
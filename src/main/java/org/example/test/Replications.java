@@ -0,0 +1,28 @@
+package org.example.test;
+
+import org.example.controller.ReplicationRunner;
+import org.example.framework.Trace;
+import org.example.framework.Trace.Level;
+import org.example.model.SimulationConfig;
+
+/**
+ * Command-line runner for independent replications of the default scenario.
+ * <p>
+ * Usage: {@code Replications [replications] [simulationTime] [tellers] [accountTellers]}
+ */
+public class Replications {
+	public static void main(String[] args) {
+		Trace.setTraceLevel(Level.WAR);
+
+		int replications = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		SimulationConfig config = new SimulationConfig();
+		if (args.length > 1) config.setSimulationTime(Double.parseDouble(args[1]));
+		if (args.length > 2) config.setNumberOfStations(Integer.parseInt(args[2]));
+		if (args.length > 3) config.setNumberOfAccountStations(Integer.parseInt(args[3]));
+
+		long start = System.nanoTime();
+		ReplicationRunner runner = new ReplicationRunner(config);
+		System.out.println(runner.run(replications));
+		System.out.printf("Elapsed: %.2f seconds%n", (System.nanoTime() - start) / 1e9);
+	}
+}
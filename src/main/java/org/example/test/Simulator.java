@@ -1,19 +1,37 @@
-//package org.example.test;
-//
-//import org.example.framework.Engine;
-//import org.example.framework.Trace;
-//import org.example.framework.Trace.Level;
-//import org.example.model.MyEngine;
-//
-//
-//
-///* Command-line type User Interface */
-//public class Simulator {
-//	public static void main(String[] args) {
-//		Trace.setTraceLevel(Level.INFO);
-//
-//		Engine m = new MyEngine();
-//		m.setSimulationTime(1000);
-//		m.run();
-//	}
-//}
+package org.example.test;
+
+import org.example.eduni.distributions.RandomSource;
+import org.example.eduni.distributions.SamplingMethod;
+import org.example.framework.EventList;
+import org.example.framework.Trace;
+import org.example.framework.Trace.Level;
+import org.example.model.MyEngine;
+import org.example.model.SimulationConfig;
+
+/**
+ * Command-line type User Interface.
+ * Runs a single headless simulation at full speed and prints the report,
+ * including the event throughput of the engine.
+ * <p>
+ * Usage: {@code Simulator [simulationTime] [tellers] [accountTellers] [arrivalInterval] [eventList] [randomSource] [sampling]}
+ * where {@code eventList} is one of PRIORITY_QUEUE, ARRAY_HEAP or CALENDAR_QUEUE
+ * {@code randomSource} one of LCG, XOSHIRO256 or SPLITMIX64 and {@code sampling} LEGACY or FAST.
+ */
+public class Simulator {
+	public static void main(String[] args) {
+		Trace.setTraceLevel(Level.ERR);
+
+		SimulationConfig config = new SimulationConfig();
+		if (args.length > 0) config.setSimulationTime(Double.parseDouble(args[0]));
+		if (args.length > 1) config.setNumberOfStations(Integer.parseInt(args[1]));
+		if (args.length > 2) config.setNumberOfAccountStations(Integer.parseInt(args[2]));
+		if (args.length > 3) config.setArrivalInterval(Double.parseDouble(args[3]));
+		if (args.length > 4) config.setEventListImplementation(EventList.Implementation.valueOf(args[4]));
+		if (args.length > 5) config.setRandomSource(RandomSource.valueOf(args[5]));
+		if (args.length > 6) config.setSamplingMethod(SamplingMethod.valueOf(args[6]));
+
+		MyEngine m = new MyEngine(config);
+		m.run();
+		System.out.println(m.getResultsReport());
+	}
+}